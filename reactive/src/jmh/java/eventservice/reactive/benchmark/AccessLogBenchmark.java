@@ -0,0 +1,47 @@
+package eventservice.reactive.benchmark;
+
+import eventservice.reactive.logging.AccessLogFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost the access log adds on the calling thread. The async logger writes to a
+ * Null appender, so formatting and I/O on the background thread are left out on purpose.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dlog4j2.configurationFile=log4j2-access-benchmark.xml",
+        "-Dlog4j2.asyncQueueFullPolicy=Discard"})
+public class AccessLogBenchmark {
+
+    private static final WebFilterChain CHAIN = exchange -> Mono.empty();
+
+    private final AccessLogFilter accessLogFilter = new AccessLogFilter();
+
+    @Benchmark
+    public Void withoutAccessLog() {
+        return CHAIN.filter(newExchange()).block();
+    }
+
+    @Benchmark
+    public Void withAccessLog() {
+        return accessLogFilter.filter(newExchange(), CHAIN).block();
+    }
+
+    private static MockServerWebExchange newExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v3/users/user123"));
+    }
+}
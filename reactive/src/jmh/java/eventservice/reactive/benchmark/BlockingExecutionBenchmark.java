@@ -0,0 +1,60 @@
+package eventservice.reactive.benchmark;
+
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.execution.BlockingExecutionProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans out simulated blocking integration calls (a fixed sleep standing in for a JDBC round
+ * trip) through each execution mode. On a JDK without virtual threads both modes end up on
+ * the bounded elastic scheduler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingExecutionBenchmark {
+
+    @Param({"BOUNDED_ELASTIC", "VIRTUAL_THREADS"})
+    BlockingExecutionProperties.Mode mode;
+
+    @Param({"100", "1000"})
+    int concurrentCalls;
+
+    @Param({"5"})
+    long blockingMillis;
+
+    private BlockingExecution blockingExecution;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        blockingExecution = BlockingExecution.create(mode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        blockingExecution.close();
+    }
+
+    @Benchmark
+    public Long fanOut() {
+        return Flux.range(0, concurrentCalls)
+                .flatMap(i -> blockingExecution.call(() -> {
+                    Thread.sleep(blockingMillis);
+                    return i;
+                }), concurrentCalls)
+                .count()
+                .block();
+    }
+}
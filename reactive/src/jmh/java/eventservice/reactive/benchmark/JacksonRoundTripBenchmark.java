@@ -0,0 +1,74 @@
+package eventservice.reactive.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eventservice.reactive.config.JacksonConfiguration;
+import eventservice.reactive.model.CityModel;
+import eventservice.reactive.model.UserModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JacksonRoundTripBenchmark {
+
+    @Param({"baseline", "reflection", "blackbird"})
+    String accessors;
+
+    private ObjectMapper mapper;
+    private UserModel user;
+    private byte[] userJson;
+    private CityModel city;
+    private byte[] cityJson;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        // baseline is the untuned builder the codecs used before; the other two carry the settings
+        // the application ships with, with and without the Blackbird module.
+        JacksonConfiguration configuration = new JacksonConfiguration();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (!"baseline".equals(accessors)) {
+            configuration.objectMapperCustomizer().customize(builder);
+        }
+        if ("blackbird".equals(accessors)) {
+            builder.modulesToInstall(configuration.blackbirdModule());
+        }
+        mapper = builder.build();
+
+        user = new UserModel("63e66190fee6a77bc97185aa", "user123", "email123@gmail.com", "password123", "user");
+        userJson = mapper.writeValueAsBytes(user);
+        city = new CityModel("Riga");
+        cityJson = mapper.writeValueAsBytes(city);
+    }
+
+    @Benchmark
+    public byte[] writeUser() throws IOException {
+        return mapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public UserModel readUser() throws IOException {
+        return mapper.readValue(userJson, UserModel.class);
+    }
+
+    @Benchmark
+    public byte[] writeCity() throws IOException {
+        return mapper.writeValueAsBytes(city);
+    }
+
+    @Benchmark
+    public CityModel readCity() throws IOException {
+        return mapper.readValue(cityJson, CityModel.class);
+    }
+}
@@ -0,0 +1,127 @@
+package eventservice.reactive.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import eventservice.reactive.config.JacksonConfiguration;
+import eventservice.reactive.model.CityModel;
+import eventservice.reactive.model.CountryModel;
+import eventservice.reactive.model.ErrorModel;
+import eventservice.reactive.model.UserModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    private static final Path SIZES_FILE = Paths.get("build/results/jmh/payload-sizes.csv");
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    @Param({"user", "countries", "cities", "error"})
+    String payload;
+
+    private ObjectMapper mapper;
+    private Object value;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapper = shippedMapper(format);
+        value = createPayload(payload);
+    }
+
+    @TearDown(Level.Trial)
+    public void recordSizes() throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(value);
+        String line = String.join(",", format, payload, String.valueOf(encoded.length),
+                String.valueOf(gzip(encoded).length)) + System.lineSeparator();
+        Files.createDirectories(SIZES_FILE.getParent());
+        if (!Files.exists(SIZES_FILE)) {
+            Files.write(SIZES_FILE, ("format,payload,raw,gzip" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        }
+        Files.write(SIZES_FILE, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] encodeAndGzip() throws IOException {
+        return gzip(mapper.writeValueAsBytes(value));
+    }
+
+    /**
+     * The mappers the codecs use: JSON and CBOR come from the Boot builder (ISO dates, the
+     * application's customizer and Blackbird), Smile from the WebFlux default codec.
+     */
+    private static ObjectMapper shippedMapper(String format) {
+        if ("smile".equals(format)) {
+            return Jackson2ObjectMapperBuilder.smile().build();
+        }
+        JacksonConfiguration configuration = new JacksonConfiguration();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(configuration.blackbirdModule());
+        configuration.objectMapperCustomizer().customize(builder);
+        if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        }
+        return builder.build();
+    }
+
+    private static Object createPayload(String payload) {
+        switch (payload) {
+            case "countries":
+                List<CountryModel> countries = new ArrayList<>();
+                for (long i = 0; i < 250; i++) {
+                    countries.add(new CountryModel(i, "Country " + i));
+                }
+                return countries;
+            case "cities":
+                List<CityModel> cities = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    cities.add(new CityModel("City " + i));
+                }
+                return cities;
+            case "error":
+                return new ErrorModel(LocalDate.now(), 404, "Not found", "User doesn't exist", "/api/v3/users/user123");
+            default:
+                return new UserModel("63e66190fee6a77bc97185aa", "user123", "email123@gmail.com", "password123", "user");
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
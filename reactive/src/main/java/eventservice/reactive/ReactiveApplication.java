@@ -1,15 +1,22 @@
 package eventservice.reactive;
 
+import eventservice.reactive.startup.StartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
-import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
 
-@SpringBootApplication(exclude = {UserDetailsServiceAutoConfiguration.class})
+@SpringBootApplication
+@ConfigurationPropertiesScan
 public class ReactiveApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(ReactiveApplication.class, args);
+		SpringApplication application = new SpringApplication(ReactiveApplication.class);
+		application.setApplicationStartup(StartupReport.applicationStartup());
+		ConfigurableApplicationContext context = application.run(args);
+		if (context.getEnvironment().getProperty("startup.training-run", Boolean.class, false)) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -0,0 +1,5 @@
+package eventservice.reactive.audit;
+
+public enum AuditAction {
+    CREATE, EDIT, DELETE
+}
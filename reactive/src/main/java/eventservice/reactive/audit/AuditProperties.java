@@ -0,0 +1,23 @@
+package eventservice.reactive.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("audit")
+public class AuditProperties {
+
+    private int bufferCapacity = 10_000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private OverflowPolicy overflowPolicy = OverflowPolicy.SPILL;
+    private Duration backpressureTimeout = Duration.ofMillis(500);
+    private String spillFile = "data/audit-spill.jsonl";
+    private String file = "data/audit.jsonl";
+
+    public enum OverflowPolicy {
+        BACKPRESSURE, SPILL
+    }
+}
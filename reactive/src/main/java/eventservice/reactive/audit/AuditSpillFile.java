@@ -0,0 +1,78 @@
+package eventservice.reactive.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.model.AuditModel;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local JSON-lines file that takes audit records the buffer or the collection could not,
+ * so they are written on the next start instead of being lost. File access runs through
+ * {@link BlockingExecution}.
+ */
+@RequiredArgsConstructor
+public class AuditSpillFile {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final BlockingExecution blockingExecution;
+
+    public Mono<Void> append(List<AuditModel> records) {
+        return blockingExecution.run(() -> {
+            List<String> lines = new ArrayList<>(records.size());
+            for (AuditModel record : records) {
+                lines.add(toJson(record));
+            }
+            synchronized (this) {
+                try {
+                    if (path.getParent() != null) {
+                        Files.createDirectories(path.getParent());
+                    }
+                    Files.write(path, lines, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        });
+    }
+
+    public Mono<List<AuditModel>> drain() {
+        return blockingExecution.call(() -> {
+            List<String> lines;
+            synchronized (this) {
+                if (!Files.exists(path)) {
+                    return List.of();
+                }
+                lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                Files.delete(path);
+            }
+            List<AuditModel> records = new ArrayList<>(lines.size());
+            for (String line : lines) {
+                if (!line.isBlank()) {
+                    records.add(objectMapper.readValue(line, AuditModel.class));
+                }
+            }
+            return records;
+        });
+    }
+
+    private String toJson(AuditModel record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
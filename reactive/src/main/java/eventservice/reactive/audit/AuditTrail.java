@@ -0,0 +1,191 @@
+package eventservice.reactive.audit;
+
+import eventservice.reactive.lifecycle.ShutdownFlushable;
+import eventservice.reactive.model.AuditModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Write-behind audit trail. Records go into a bounded in-memory buffer and are written to
+ * the audit collection in batches, when the buffer reaches the batch size or when the
+ * flush interval elapses, whichever comes first. A full buffer either holds the caller
+ * back for up to the backpressure timeout or spills straight to the local spill file;
+ * batches the writer rejects are spilled too. Spilled records are written on the next start.
+ * Records that cannot be spilled either are logged, counted and dropped: auditing never
+ * fails the caller or stops the flush pipeline. Once the final {@link #flush()} has begun,
+ * new records bypass the buffer and go straight to the spill file.
+ */
+@Slf4j
+public class AuditTrail implements ShutdownFlushable {
+
+    private static final Duration BACKPRESSURE_POLL = Duration.ofMillis(5);
+
+    private final AuditProperties properties;
+    private final AuditWriter writer;
+    private final AuditSpillFile spillFile;
+    private final BlockingQueue<AuditModel> buffer;
+    private final Sinks.Many<Boolean> flushTriggers = Sinks.many().multicast().directBestEffort();
+    private final Sinks.One<Boolean> stopped = Sinks.one();
+    private final Timer flushLatency;
+    private final Counter spilled;
+    private final Counter dropped;
+    private volatile boolean closed;
+    private volatile Mono<Void> pipeline;
+    private volatile Mono<Void> replayed = Mono.empty();
+
+    public AuditTrail(AuditProperties properties, AuditWriter writer, AuditSpillFile spillFile,
+                      MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.writer = writer;
+        this.spillFile = spillFile;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.flushLatency = Timer.builder("audit.flush.latency")
+                .description("Time taken to write one audit batch")
+                .register(meterRegistry);
+        this.spilled = Counter.builder("audit.spilled")
+                .description("Audit records written to the local spill file")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.dropped")
+                .description("Audit records lost because neither the writer nor the spill file took them")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.depth", buffer, Collection::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        // Size triggers write full batches only; interval ticks write whatever is pending.
+        pipeline = Flux.merge(
+                        Flux.interval(properties.getFlushInterval()).map(tick -> false).takeUntilOther(stopped.asMono()),
+                        flushTriggers.asFlux())
+                .onBackpressureDrop()
+                .concatMap(fullBatchesOnly -> fullBatchesOnly
+                        ? writeWhile(() -> buffer.size() >= properties.getBatchSize())
+                        : writeWhile(() -> !buffer.isEmpty()), 1)
+                .then(Mono.defer(() -> writeWhile(() -> !buffer.isEmpty())))
+                .cache();
+        pipeline.subscribe(null, ex -> log.error("Audit: flush pipeline failed", ex));
+        replayed = replaySpilled()
+                .onErrorResume(ex -> {
+                    log.error("Audit: replaying spilled records failed", ex);
+                    return Mono.empty();
+                })
+                .cache();
+        replayed.subscribe();
+    }
+
+    public Mono<Void> record(AuditAction action, String username) {
+        return Mono.defer(() -> {
+            AuditModel record = new AuditModel(null, action, username, Instant.now());
+            return enqueue(record).onErrorResume(ex -> drop(List.of(record), ex));
+        });
+    }
+
+    @Override
+    public Mono<Void> flush() {
+        return Mono.defer(() -> {
+            closed = true;
+            if (pipeline == null) {
+                return writeWhile(() -> !buffer.isEmpty());
+            }
+            stopped.tryEmitValue(true);
+            flushTriggers.tryEmitComplete();
+            // A record that passed the closed check just before it was set may land after the
+            // pipeline's last drain; write those too.
+            return pipeline.then(writeWhile(() -> !buffer.isEmpty()));
+        });
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    private Mono<Void> enqueue(AuditModel record) {
+        if (closed) {
+            return spill(List.of(record));
+        }
+        if (offer(record)) {
+            return Mono.empty();
+        }
+        if (properties.getOverflowPolicy() == AuditProperties.OverflowPolicy.SPILL) {
+            return spill(List.of(record));
+        }
+        return Mono.fromCallable(() -> offer(record) ? Boolean.TRUE : null)
+                .repeatWhenEmpty(attempts -> attempts.concatMap(attempt -> Mono.delay(BACKPRESSURE_POLL)))
+                .timeout(properties.getBackpressureTimeout())
+                .then()
+                .onErrorResume(TimeoutException.class, ex -> spill(List.of(record)));
+    }
+
+    private boolean offer(AuditModel record) {
+        if (!buffer.offer(record)) {
+            return false;
+        }
+        if (buffer.size() >= properties.getBatchSize()) {
+            flushTriggers.tryEmitNext(true);
+        }
+        return true;
+    }
+
+    private Mono<Void> writeWhile(BooleanSupplier condition) {
+        return Mono.defer(() -> condition.getAsBoolean()
+                ? Mono.defer(this::writeBatch).repeat(condition).then()
+                : Mono.empty());
+    }
+
+    private Mono<Void> writeBatch() {
+        List<AuditModel> batch = new ArrayList<>(properties.getBatchSize());
+        buffer.drainTo(batch, properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+        long startedAt = System.nanoTime();
+        return writer.write(batch)
+                .doOnSuccess(done -> flushLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                .onErrorResume(ex -> {
+                    log.warn("Audit: writing a batch of {} records failed, spilling it", batch.size(), ex);
+                    return spill(batch);
+                })
+                .onErrorResume(ex -> drop(batch, ex));
+    }
+
+    private Mono<Void> spill(List<AuditModel> records) {
+        // Wait for the replay so it cannot pick up, and rewrite, records spilled after start.
+        return replayed.then(spillFile.append(records))
+                .doOnSuccess(done -> spilled.increment(records.size()));
+    }
+
+    private Mono<Void> drop(List<AuditModel> records, Throwable ex) {
+        log.error("Audit: spilling {} records failed, dropping them", records.size(), ex);
+        dropped.increment(records.size());
+        return Mono.empty();
+    }
+
+    private Mono<Void> replaySpilled() {
+        return spillFile.drain()
+                .filter(records -> !records.isEmpty())
+                .flatMap(records -> Flux.fromIterable(records)
+                        .buffer(properties.getBatchSize())
+                        .concatMap(writer::write)
+                        .then()
+                        .doOnSuccess(done -> log.info("Audit: wrote {} spilled records", records.size()))
+                        .onErrorResume(ex -> spillFile.append(records)));
+    }
+}
@@ -0,0 +1,12 @@
+package eventservice.reactive.audit;
+
+import eventservice.reactive.model.AuditModel;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface AuditWriter {
+
+    Mono<Void> write(List<AuditModel> batch);
+
+}
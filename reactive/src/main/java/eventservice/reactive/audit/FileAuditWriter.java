@@ -0,0 +1,22 @@
+package eventservice.reactive.audit;
+
+import eventservice.reactive.model.AuditModel;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Appends audit batches to a local JSON-lines file, for the in-memory user store where there
+ * is no Mongo collection to write them to.
+ */
+@RequiredArgsConstructor
+public class FileAuditWriter implements AuditWriter {
+
+    private final AuditSpillFile file;
+
+    @Override
+    public Mono<Void> write(List<AuditModel> batch) {
+        return file.append(batch);
+    }
+}
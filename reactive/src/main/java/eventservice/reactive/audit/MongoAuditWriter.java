@@ -0,0 +1,19 @@
+package eventservice.reactive.audit;
+
+import eventservice.reactive.model.AuditModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MongoAuditWriter implements AuditWriter {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    @Override
+    public Mono<Void> write(List<AuditModel> batch) {
+        return mongoOperations.insert(batch, AuditModel.class).then();
+    }
+}
@@ -0,0 +1,14 @@
+package eventservice.reactive.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    private String origin;
+    private String cacheName;
+    private String key;
+
+}
@@ -0,0 +1,16 @@
+package eventservice.reactive.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carries invalidations between nodes so that each of them can drop its L1 entry after a
+ * write elsewhere.
+ */
+public interface CacheInvalidationBus {
+
+    Mono<Void> publish(CacheInvalidation invalidation);
+
+    Flux<CacheInvalidation> invalidations();
+
+}
@@ -0,0 +1,32 @@
+package eventservice.reactive.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmer {
+
+    private final List<MultiLevelCache<?>> caches;
+    private final MultiLevelCacheProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isWarmStart()) {
+            return;
+        }
+        Flux.fromIterable(caches)
+                .flatMap(cache -> cache.warmUp()
+                        .doOnError(ex -> log.warn("Cache {}: warm start failed", cache.getName(), ex))
+                        .onErrorResume(ex -> Mono.empty()))
+                .subscribe();
+    }
+}
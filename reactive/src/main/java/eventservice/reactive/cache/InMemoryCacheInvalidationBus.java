@@ -0,0 +1,23 @@
+package eventservice.reactive.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Sinks.EmitFailureHandler RETRY_NON_SERIALIZED =
+            (signalType, emitResult) -> emitResult == Sinks.EmitResult.FAIL_NON_SERIALIZED;
+
+    private final Sinks.Many<CacheInvalidation> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Mono<Void> publish(CacheInvalidation invalidation) {
+        return Mono.fromRunnable(() -> sink.emitNext(invalidation, RETRY_NON_SERIALIZED));
+    }
+
+    @Override
+    public Flux<CacheInvalidation> invalidations() {
+        return sink.asFlux();
+    }
+}
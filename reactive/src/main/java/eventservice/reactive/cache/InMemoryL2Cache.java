@@ -0,0 +1,55 @@
+package eventservice.reactive.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local stand-in for a shared L2, one bounded Caffeine cache per cache name. Keys
+ * come from request paths, so each cache is capped by size as well as expiring by TTL.
+ */
+public class InMemoryL2Cache implements L2Cache {
+
+    private final Map<String, Cache<String, Object>> caches = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final long maximumSize;
+
+    public InMemoryL2Cache(Duration ttl, long maximumSize) {
+        this.ttl = ttl;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        return Mono.fromSupplier(() -> cache(cacheName).getIfPresent(key));
+    }
+
+    @Override
+    public Mono<Void> put(String cacheName, String key, Object value) {
+        return Mono.fromRunnable(() -> cache(cacheName).put(key, value));
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        return Mono.fromRunnable(() -> cache(cacheName).invalidate(key));
+    }
+
+    @Override
+    public Flux<Map.Entry<String, Object>> entries(String cacheName) {
+        return Flux.defer(() -> Flux.fromIterable(cache(cacheName).asMap().entrySet()))
+                .map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+    }
+
+    private Cache<String, Object> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build());
+    }
+}
@@ -0,0 +1,22 @@
+package eventservice.reactive.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Out-of-process cache tier shared by all nodes. Implementations are expected to be
+ * non-blocking; the in-memory one is meant for local runs and tests.
+ */
+public interface L2Cache {
+
+    Mono<Object> get(String cacheName, String key);
+
+    Mono<Void> put(String cacheName, String key, Object value);
+
+    Mono<Void> evict(String cacheName, String key);
+
+    Flux<Map.Entry<String, Object>> entries(String cacheName);
+
+}
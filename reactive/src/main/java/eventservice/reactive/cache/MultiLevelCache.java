@@ -0,0 +1,164 @@
+package eventservice.reactive.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache with an in-process L1 in front of an optional shared L2. Writes
+ * invalidate both tiers and notify the other nodes, which drop their own L1 entry.
+ * Invalidations bump a per-key-stripe generation; a load that started before one does
+ * not write its result back, so a slow loader cannot restore a value that was just
+ * invalidated.
+ */
+@Slf4j
+public class MultiLevelCache<V> implements AutoCloseable {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final String name;
+    private final String nodeId;
+    private final Cache<String, V> l1;
+    private final L2Cache l2;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Disposable invalidationSubscription;
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public MultiLevelCache(String name, String nodeId, MultiLevelCacheProperties.L1 l1Properties, L2Cache l2,
+                           CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.nodeId = nodeId;
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(l1Properties.getMaximumSize())
+                .expireAfterWrite(l1Properties.getTtl())
+                .build();
+        this.l2 = l2;
+        this.invalidationBus = invalidationBus;
+        this.invalidationSubscription = invalidationBus.invalidations()
+                .filter(invalidation -> name.equals(invalidation.getCacheName())
+                        && !nodeId.equals(invalidation.getOrigin()))
+                .subscribe(invalidation -> {
+                    nextGeneration(invalidation.getKey());
+                    l1.invalidate(invalidation.getKey());
+                });
+
+        this.l1Hits = counter(meterRegistry, "l1", "hit");
+        this.l1Misses = counter(meterRegistry, "l1", "miss");
+        this.l2Hits = counter(meterRegistry, "l2", "hit");
+        this.l2Misses = counter(meterRegistry, "l2", "miss");
+        Gauge.builder("cache.size", l1, Cache::estimatedSize)
+                .tag("cache", name)
+                .tag("tier", "l1")
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Mono<V> get(String key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            V cached = l1.getIfPresent(key);
+            if (cached != null) {
+                l1Hits.increment();
+                return Mono.just(cached);
+            }
+            l1Misses.increment();
+            long generation = generation(key);
+            return getFromL2(key)
+                    .switchIfEmpty(Mono.defer(() -> loader.get()
+                            .flatMap(value -> putInL2(key, value, generation).thenReturn(value))))
+                    .doOnNext(value -> putInL1(key, value, generation));
+        });
+    }
+
+    public Mono<Void> invalidate(String key) {
+        return Mono.defer(() -> {
+            nextGeneration(key);
+            l1.invalidate(key);
+            Mono<Void> evictL2 = l2 != null ? l2.evict(name, key) : Mono.empty();
+            return evictL2.then(invalidationBus.publish(new CacheInvalidation(nodeId, name, key)));
+        });
+    }
+
+    public Mono<Void> warmUp() {
+        if (l2 == null) {
+            return Mono.empty();
+        }
+        return l2.entries(name)
+                .doOnNext(entry -> l1.put(entry.getKey(), cast(entry.getValue())))
+                .count()
+                .doOnNext(count -> log.info("Cache {}: preloaded {} entries from L2", name, count))
+                .then();
+    }
+
+    @Override
+    public void close() {
+        invalidationSubscription.dispose();
+    }
+
+    private Mono<V> getFromL2(String key) {
+        if (l2 == null) {
+            return Mono.empty();
+        }
+        return l2.get(name, key)
+                .map(this::cast)
+                .doOnNext(value -> l2Hits.increment())
+                .switchIfEmpty(Mono.fromRunnable(l2Misses::increment));
+    }
+
+    private void putInL1(String key, V value, long generation) {
+        if (generation(key) != generation) {
+            return;
+        }
+        l1.put(key, value);
+        if (generation(key) != generation) {
+            l1.invalidate(key);
+        }
+    }
+
+    private Mono<Void> putInL2(String key, V value, long generation) {
+        if (l2 == null || generation(key) != generation) {
+            return Mono.empty();
+        }
+        return l2.put(name, key, value)
+                .then(Mono.defer(() -> generation(key) != generation ? l2.evict(name, key) : Mono.empty()));
+    }
+
+    private long generation(String key) {
+        return generations.get(stripe(key));
+    }
+
+    private void nextGeneration(String key) {
+        generations.incrementAndGet(stripe(key));
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V cast(Object value) {
+        return (V) value;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package eventservice.reactive.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("cache")
+public class MultiLevelCacheProperties {
+
+    private final L1 l1 = new L1();
+    private final L2 l2 = new L2();
+    private boolean warmStart = true;
+
+    @Data
+    public static class L1 {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class L2 {
+        private boolean enabled = false;
+        private long maximumSize = 100_000;
+        private Duration ttl = Duration.ofMinutes(30);
+    }
+}
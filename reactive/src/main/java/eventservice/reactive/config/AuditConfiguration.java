@@ -0,0 +1,41 @@
+package eventservice.reactive.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eventservice.reactive.audit.AuditProperties;
+import eventservice.reactive.audit.AuditSpillFile;
+import eventservice.reactive.audit.AuditTrail;
+import eventservice.reactive.audit.AuditWriter;
+import eventservice.reactive.audit.FileAuditWriter;
+import eventservice.reactive.audit.MongoAuditWriter;
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.repository.UserStoreProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+
+import java.nio.file.Paths;
+
+@Configuration(proxyBeanMethods = false)
+public class AuditConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditWriter auditWriter(UserStoreProperties userStoreProperties, AuditProperties properties,
+                                   ObjectProvider<ReactiveMongoOperations> mongoOperations, ObjectMapper objectMapper,
+                                   BlockingExecution blockingExecution) {
+        if (userStoreProperties.getEngine() == UserStoreProperties.Engine.IN_MEMORY) {
+            return new FileAuditWriter(new AuditSpillFile(Paths.get(properties.getFile()), objectMapper, blockingExecution));
+        }
+        return new MongoAuditWriter(mongoOperations.getObject());
+    }
+
+    @Bean(initMethod = "start")
+    public AuditTrail auditTrail(AuditProperties properties, AuditWriter auditWriter, ObjectMapper objectMapper,
+                                 BlockingExecution blockingExecution, MeterRegistry meterRegistry) {
+        AuditSpillFile spillFile = new AuditSpillFile(Paths.get(properties.getSpillFile()), objectMapper, blockingExecution);
+        return new AuditTrail(properties, auditWriter, spillFile, meterRegistry);
+    }
+}
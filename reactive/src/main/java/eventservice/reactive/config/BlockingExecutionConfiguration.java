@@ -0,0 +1,15 @@
+package eventservice.reactive.config;
+
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.execution.BlockingExecutionProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class BlockingExecutionConfiguration {
+
+    @Bean
+    public BlockingExecution blockingExecution(BlockingExecutionProperties properties) {
+        return BlockingExecution.create(properties.getMode());
+    }
+}
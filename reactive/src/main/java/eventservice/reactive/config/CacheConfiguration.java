@@ -0,0 +1,68 @@
+package eventservice.reactive.config;
+
+import eventservice.reactive.cache.CacheInvalidationBus;
+import eventservice.reactive.cache.InMemoryCacheInvalidationBus;
+import eventservice.reactive.cache.InMemoryL2Cache;
+import eventservice.reactive.cache.L2Cache;
+import eventservice.reactive.cache.MultiLevelCache;
+import eventservice.reactive.cache.MultiLevelCacheProperties;
+import eventservice.reactive.model.CityModel;
+import eventservice.reactive.model.CountryModel;
+import eventservice.reactive.model.UserModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.UUID;
+
+@Configuration(proxyBeanMethods = false)
+public class CacheConfiguration {
+
+    public static final String USERS = "users";
+    public static final String COUNTRIES = "countries";
+    public static final String CITIES = "cities";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "cache.l2", name = "enabled", havingValue = "true")
+    public L2Cache l2Cache(MultiLevelCacheProperties properties) {
+        return new InMemoryL2Cache(properties.getL2().getTtl(), properties.getL2().getMaximumSize());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
+    @Bean
+    public MultiLevelCache<UserModel> userCache(MultiLevelCacheProperties properties, ObjectProvider<L2Cache> l2Cache,
+                                                CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        return new MultiLevelCache<>(USERS, nodeId, properties.getL1(), l2Cache.getIfAvailable(),
+                invalidationBus, meterRegistry);
+    }
+
+    @Bean
+    public MultiLevelCache<List<CountryModel>> countryCache(MultiLevelCacheProperties properties,
+                                                            ObjectProvider<L2Cache> l2Cache,
+                                                            CacheInvalidationBus invalidationBus,
+                                                            MeterRegistry meterRegistry) {
+        return new MultiLevelCache<>(COUNTRIES, nodeId, properties.getL1(), l2Cache.getIfAvailable(),
+                invalidationBus, meterRegistry);
+    }
+
+    @Bean
+    public MultiLevelCache<List<CityModel>> cityCache(MultiLevelCacheProperties properties,
+                                                      ObjectProvider<L2Cache> l2Cache,
+                                                      CacheInvalidationBus invalidationBus,
+                                                      MeterRegistry meterRegistry) {
+        return new MultiLevelCache<>(CITIES, nodeId, properties.getL1(), l2Cache.getIfAvailable(),
+                invalidationBus, meterRegistry);
+    }
+}
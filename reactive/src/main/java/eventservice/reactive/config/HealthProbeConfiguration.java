@@ -0,0 +1,64 @@
+package eventservice.reactive.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eventservice.reactive.audit.AuditWriter;
+import eventservice.reactive.audit.MongoAuditWriter;
+import eventservice.reactive.health.DependencyCheck;
+import eventservice.reactive.health.DependencyProbes;
+import eventservice.reactive.health.EventLoopLagCheck;
+import eventservice.reactive.health.HealthProbeProperties;
+import eventservice.reactive.health.MongoPingCheck;
+import eventservice.reactive.health.UpstreamCheck;
+import eventservice.reactive.lifecycle.InFlightRequestTracker;
+import eventservice.reactive.proxy.CountryCityProperties;
+import eventservice.reactive.repository.MongoUserStore;
+import eventservice.reactive.repository.UserStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpResources;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration(proxyBeanMethods = false)
+public class HealthProbeConfiguration {
+
+    @Bean
+    public DependencyProbes dependencyProbes(HealthProbeProperties properties, CountryCityProperties countryCityProperties,
+                                             UserStore userStore, AuditWriter auditWriter,
+                                             ObjectProvider<ReactiveMongoOperations> mongoOperations,
+                                             WebClient.Builder webClientBuilder,
+                                             ConnectionProvider upstreamConnectionProvider,
+                                             ObjectProvider<ReactorResourceFactory> reactorResourceFactory,
+                                             ApplicationAvailability availability,
+                                             InFlightRequestTracker inFlightRequestTracker,
+                                             ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry) {
+        WebClient upstream = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(upstreamConnectionProvider)))
+                .baseUrl(countryCityProperties.getBaseUrl())
+                .build();
+        ReactorResourceFactory resourceFactory = reactorResourceFactory.getIfAvailable();
+        LoopResources loopResources = resourceFactory != null ? resourceFactory.getLoopResources() : HttpResources.get();
+        List<DependencyCheck> checks = new ArrayList<>();
+        // Only ping Mongo when something actually writes to it, so the in-memory engine runs without one.
+        if (userStore instanceof MongoUserStore || auditWriter instanceof MongoAuditWriter) {
+            checks.add(new MongoPingCheck(mongoOperations.getObject()));
+        }
+        checks.add(new UpstreamCheck(upstream, properties.isUpstreamCritical()));
+        checks.add(new EventLoopLagCheck(loopResources.onServer(true), properties.getMaxEventLoopLag()));
+        return new DependencyProbes(properties, checks, availability, inFlightRequestTracker, eventPublisher,
+                objectMapper, meterRegistry);
+    }
+}
@@ -0,0 +1,31 @@
+package eventservice.reactive.config;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Shared settings for every ObjectMapper built from the Boot builder: the WebFlux JSON and
+ * CBOR codecs and the WebClient used by the country/city proxy.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfiguration {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer objectMapperCustomizer() {
+        return builder -> builder
+                .featuresToDisable(
+                        MapperFeature.AUTO_DETECT_IS_GETTERS,
+                        MapperFeature.USE_GETTERS_AS_SETTERS,
+                        SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+}
@@ -0,0 +1,19 @@
+package eventservice.reactive.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+
+/**
+ * Beans that stay eager when the fast-start profile turns on lazy initialization, so the
+ * first request doesn't pay for building them.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfiguration {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerRouterFunctions() {
+        return LazyInitializationExcludeFilter.forBeanTypes(RouterFunction.class);
+    }
+}
@@ -0,0 +1,41 @@
+package eventservice.reactive.config;
+
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.repository.InMemoryUserStore;
+import eventservice.reactive.repository.MongoUserStore;
+import eventservice.reactive.repository.UserRepository;
+import eventservice.reactive.repository.UserStore;
+import eventservice.reactive.repository.UserStoreLog;
+import eventservice.reactive.repository.UserStoreProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+
+import java.nio.file.Paths;
+
+@Configuration(proxyBeanMethods = false)
+public class UserStoreConfiguration {
+
+    @Bean
+    public UserStore userStore(UserStoreProperties properties, ObjectProvider<UserRepository> userRepository,
+                               ObjectProvider<ReactiveMongoOperations> mongoOperations,
+                               BlockingExecution blockingExecution) {
+        if (properties.getEngine() == UserStoreProperties.Engine.IN_MEMORY) {
+            return inMemoryUserStore(properties.getPersistence(), blockingExecution);
+        }
+        // Fail startup rather than run without the uniqueness the store relies on.
+        MongoUserStore.ensureIndexes(mongoOperations.getObject()).block();
+        return new MongoUserStore(userRepository.getObject());
+    }
+
+    private static UserStore inMemoryUserStore(UserStoreProperties.Persistence persistence,
+                                               BlockingExecution blockingExecution) {
+        if (!persistence.isEnabled()) {
+            return new InMemoryUserStore();
+        }
+        return new InMemoryUserStore(new UserStoreLog(Paths.get(persistence.getDirectory()),
+                persistence.getInitialMappedSize().toBytes(), persistence.getCompactionThreshold().toBytes()),
+                blockingExecution);
+    }
+}
@@ -0,0 +1,67 @@
+package eventservice.reactive.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs blocking calls (JDBC, blocking SDKs, file I/O) off the Netty event loops, either on
+ * Reactor's bounded elastic scheduler or on a virtual-thread-per-task executor. Virtual
+ * threads are looked up reflectively so the code still compiles for Java 11; on a JDK
+ * without them the bounded elastic scheduler is used instead.
+ */
+@Slf4j
+public class BlockingExecution implements AutoCloseable {
+
+    private final Scheduler scheduler;
+    private final boolean ownsScheduler;
+
+    private BlockingExecution(Scheduler scheduler, boolean ownsScheduler) {
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+    }
+
+    public static BlockingExecution create(BlockingExecutionProperties.Mode mode) {
+        if (mode == BlockingExecutionProperties.Mode.VIRTUAL_THREADS) {
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            if (executor != null) {
+                return new BlockingExecution(Schedulers.fromExecutorService(executor, "virtual-threads"), true);
+            }
+            log.warn("Virtual threads are not available on Java {}, falling back to bounded elastic",
+                    System.getProperty("java.specification.version"));
+        }
+        return new BlockingExecution(Schedulers.boundedElastic(), false);
+    }
+
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(scheduler);
+    }
+
+    public Mono<Void> run(Runnable task) {
+        return Mono.<Void>fromRunnable(task).subscribeOn(scheduler);
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public void close() {
+        if (ownsScheduler) {
+            scheduler.dispose();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+}
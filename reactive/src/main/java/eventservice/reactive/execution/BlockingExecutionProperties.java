@@ -0,0 +1,15 @@
+package eventservice.reactive.execution;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("blocking")
+public class BlockingExecutionProperties {
+
+    private Mode mode = Mode.BOUNDED_ELASTIC;
+
+    public enum Mode {
+        BOUNDED_ELASTIC, VIRTUAL_THREADS
+    }
+}
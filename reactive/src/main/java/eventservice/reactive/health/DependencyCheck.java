@@ -0,0 +1,30 @@
+package eventservice.reactive.health;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface DependencyCheck {
+
+    String getName();
+
+    /**
+     * Whether a failing check takes the application out of rotation. Non-critical checks are
+     * only reported.
+     */
+    default boolean isCritical() {
+        return true;
+    }
+
+    /**
+     * Completes with the measured latency, or errors when the dependency is unhealthy.
+     */
+    Mono<Duration> check();
+
+    static Mono<Duration> timed(Mono<?> operation) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return operation.then(Mono.fromCallable(() -> Duration.ofNanos(System.nanoTime() - startedAt)));
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package eventservice.reactive.health;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eventservice.reactive.lifecycle.InFlightRequestTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the dependency checks on a timer and keeps the outcome, so probes read a cached
+ * result instead of touching Mongo or the upstream per request. When a critical check
+ * fails readiness is switched to refusing traffic, and back once it recovers.
+ * {@code /probes/ready} is the only readiness endpoint: it also refuses while more than
+ * {@code probes.max-in-flight} requests are being served, a per-request condition that is
+ * deliberately not published as an availability change.
+ */
+@Slf4j
+public class DependencyProbes {
+
+    private final HealthProbeProperties properties;
+    private final List<DependencyCheck> checks;
+    private final ApplicationAvailability availability;
+    private final InFlightRequestTracker inFlightRequestTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Map<String, DependencyStatus> latest = new ConcurrentHashMap<>();
+    private volatile boolean healthy = true;
+    private volatile byte[] report;
+    private volatile boolean closed;
+    private volatile Disposable refreshes;
+
+    public DependencyProbes(HealthProbeProperties properties, List<DependencyCheck> checks,
+                            ApplicationAvailability availability, InFlightRequestTracker inFlightRequestTracker,
+                            ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.checks = checks;
+        this.availability = availability;
+        this.inFlightRequestTracker = inFlightRequestTracker;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.report = toJson(Map.of("status", DependencyStatus.UP, "dependencies", List.of()));
+        for (DependencyCheck check : checks) {
+            Gauge.builder("probe.dependency.up", latest, statuses -> isUp(statuses.get(check.getName())))
+                    .tag("dependency", check.getName())
+                    .register(meterRegistry);
+            Gauge.builder("probe.dependency.latency", latest, statuses -> latencySeconds(statuses.get(check.getName())))
+                    .tag("dependency", check.getName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refreshes = Flux.interval(properties.getRefreshInterval())
+                .startWith(0L)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh(), 1)
+                .subscribe(null, ex -> log.error("Probes: dependency refresh stopped", ex));
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        closed = true;
+        Disposable current = refreshes;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    public Mono<Void> refresh() {
+        return Flux.fromIterable(checks)
+                .flatMap(this::run)
+                .collectList()
+                .doOnNext(this::update)
+                .then();
+    }
+
+    public boolean isLive() {
+        return availability.getLivenessState() == LivenessState.CORRECT;
+    }
+
+    public boolean isReady() {
+        return availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC
+                && inFlightRequestTracker.getInFlight() <= properties.getMaxInFlight();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public byte[] getReport() {
+        return report;
+    }
+
+    private Mono<DependencyStatus> run(DependencyCheck check) {
+        return check.check()
+                .timeout(properties.getTimeout())
+                .map(latency -> new DependencyStatus(check.getName(), DependencyStatus.UP, check.isCritical(),
+                        TimeUnit.NANOSECONDS.toMicros(latency.toNanos()), null))
+                .onErrorResume(ex -> Mono.just(new DependencyStatus(check.getName(), DependencyStatus.DOWN,
+                        check.isCritical(), null, ex.getClass().getSimpleName() + ": " + ex.getMessage())));
+    }
+
+    private void update(List<DependencyStatus> statuses) {
+        boolean nowHealthy = true;
+        for (DependencyStatus status : statuses) {
+            latest.put(status.getName(), status);
+            if (status.isCritical() && !status.isUp()) {
+                nowHealthy = false;
+            }
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", nowHealthy ? DependencyStatus.UP : DependencyStatus.DOWN);
+        body.put("checkedAt", Instant.now());
+        body.put("dependencies", statuses);
+        report = toJson(body);
+
+        if (nowHealthy == healthy || closed) {
+            return;
+        }
+        healthy = nowHealthy;
+        if (nowHealthy) {
+            log.info("Probes: dependencies recovered, accepting traffic");
+        } else {
+            log.warn("Probes: critical dependency down, refusing traffic: {}", statuses);
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this,
+                nowHealthy ? ReadinessState.ACCEPTING_TRAFFIC : ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static double isUp(DependencyStatus status) {
+        return status != null && status.isUp() ? 1 : 0;
+    }
+
+    private static double latencySeconds(DependencyStatus status) {
+        return status == null || status.getLatencyMicros() == null ? Double.NaN : status.getLatencyMicros() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,24 @@
+package eventservice.reactive.health;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DependencyStatus {
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+
+    private String name;
+    private String status;
+    @JsonProperty
+    private boolean critical;
+    private Long latencyMicros;
+    private String error;
+
+    public boolean isUp() {
+        return UP.equals(status);
+    }
+}
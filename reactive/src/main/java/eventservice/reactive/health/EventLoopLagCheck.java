@@ -0,0 +1,42 @@
+package eventservice.reactive.health;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Measures how long a task queued on each server event loop waits before it runs and
+ * reports the worst one. Lag above the limit means handlers are blocking or the loops are
+ * saturated.
+ */
+@RequiredArgsConstructor
+public class EventLoopLagCheck implements DependencyCheck {
+
+    private final Iterable<? extends Executor> eventLoops;
+    private final Duration maxLag;
+
+    @Override
+    public String getName() {
+        return "event-loop";
+    }
+
+    @Override
+    public Mono<Duration> check() {
+        return Flux.fromIterable(eventLoops)
+                .flatMap(this::lag)
+                .reduce(Duration.ZERO, (worst, lag) -> lag.compareTo(worst) > 0 ? lag : worst)
+                .flatMap(lag -> lag.compareTo(maxLag) > 0
+                        ? Mono.error(new IllegalStateException("Event loop lag of " + lag.toMillis() + "ms"))
+                        : Mono.just(lag));
+    }
+
+    private Mono<Duration> lag(Executor eventLoop) {
+        return Mono.create(sink -> {
+            long queuedAt = System.nanoTime();
+            eventLoop.execute(() -> sink.success(Duration.ofNanos(System.nanoTime() - queuedAt)));
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package eventservice.reactive.health;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("probes")
+public class HealthProbeProperties {
+
+    private Duration refreshInterval = Duration.ofSeconds(5);
+    private Duration timeout = Duration.ofSeconds(2);
+    private boolean upstreamCritical = false;
+    private Duration maxEventLoopLag = Duration.ofMillis(250);
+    private int maxInFlight = 1000;
+
+}
@@ -0,0 +1,23 @@
+package eventservice.reactive.health;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+public class MongoPingCheck implements DependencyCheck {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    @Override
+    public String getName() {
+        return "mongo";
+    }
+
+    @Override
+    public Mono<Duration> check() {
+        return DependencyCheck.timed(mongoOperations.executeCommand("{ ping: 1 }"));
+    }
+}
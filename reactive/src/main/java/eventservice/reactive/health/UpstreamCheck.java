@@ -0,0 +1,34 @@
+package eventservice.reactive.health;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Checks that the country/city service answers at all. Any HTTP response counts as
+ * reachable; only connection failures and timeouts count as down.
+ */
+@RequiredArgsConstructor
+public class UpstreamCheck implements DependencyCheck {
+
+    private final WebClient webClient;
+    private final boolean critical;
+
+    @Override
+    public String getName() {
+        return "upstream";
+    }
+
+    @Override
+    public boolean isCritical() {
+        return critical;
+    }
+
+    @Override
+    public Mono<Duration> check() {
+        return DependencyCheck.timed(webClient.head().exchangeToMono(ClientResponse::releaseBody));
+    }
+}
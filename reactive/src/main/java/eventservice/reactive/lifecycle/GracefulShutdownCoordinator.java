@@ -0,0 +1,127 @@
+package eventservice.reactive.lifecycle;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shuts the application down in three steps. On context close readiness is switched to
+ * refusing traffic; Netty's graceful shutdown then stops accepting connections and this
+ * lifecycle, stopped right after it, waits for the remaining in-flight requests up to the
+ * drain deadline. Finally batched work is flushed and the upstream WebClient pool and the
+ * Mongo client are closed, in that order.
+ */
+@Slf4j
+@Component
+public class GracefulShutdownCoordinator implements SmartLifecycle {
+
+    private final ApplicationContext context;
+    private final ShutdownProperties properties;
+    private final InFlightRequestTracker inFlightRequestTracker;
+    private final ObjectProvider<ShutdownFlushable> flushables;
+    private final ObjectProvider<ConnectionProvider> connectionProviders;
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final Timer drainTimer;
+    private volatile boolean running;
+    private volatile long drainStartedAt;
+
+    public GracefulShutdownCoordinator(ApplicationContext context, ShutdownProperties properties,
+                                       InFlightRequestTracker inFlightRequestTracker,
+                                       ObjectProvider<ShutdownFlushable> flushables,
+                                       ObjectProvider<ConnectionProvider> connectionProviders,
+                                       ObjectProvider<MongoClient> mongoClient, MeterRegistry meterRegistry) {
+        this.context = context;
+        this.properties = properties;
+        this.inFlightRequestTracker = inFlightRequestTracker;
+        this.flushables = flushables;
+        this.connectionProviders = connectionProviders;
+        this.mongoClient = mongoClient;
+        this.drainTimer = Timer.builder("shutdown.drain.duration")
+                .description("Time spent draining in-flight requests on shutdown")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.in.flight", inFlightRequestTracker, InFlightRequestTracker::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onContextClosed(ContextClosedEvent event) throws InterruptedException {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+        drainStartedAt = System.nanoTime();
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+        log.info("Shutdown: readiness set to refusing traffic, {} requests in flight",
+                inFlightRequestTracker.getInFlight());
+        if (!properties.getReadinessGracePeriod().isZero()) {
+            Thread.sleep(properties.getReadinessGracePeriod().toMillis());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            drain();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        connectionProviders.orderedStream().forEach(ConnectionProvider::dispose);
+        mongoClient.ifAvailable(MongoClient::close);
+        log.info("Shutdown: upstream connection pools and Mongo client closed");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    private void drain() throws InterruptedException {
+        long startedAt = drainStartedAt != 0 ? drainStartedAt : System.nanoTime();
+        long elapsed = System.nanoTime() - startedAt;
+        Duration remaining = properties.getDrainTimeout().minusNanos(elapsed);
+        boolean drained = inFlightRequestTracker.awaitDrained(remaining.isNegative() ? Duration.ZERO : remaining);
+        long drainNanos = System.nanoTime() - startedAt;
+        drainTimer.record(drainNanos, TimeUnit.NANOSECONDS);
+        if (drained) {
+            log.info("Shutdown: in-flight requests drained in {}ms", TimeUnit.NANOSECONDS.toMillis(drainNanos));
+        } else {
+            log.warn("Shutdown: drain deadline of {} reached with {} requests still in flight",
+                    properties.getDrainTimeout(), inFlightRequestTracker.getInFlight());
+        }
+    }
+
+    private void flush() {
+        flushables.orderedStream().forEach(flushable -> {
+            try {
+                flushable.flush().block(properties.getDrainTimeout());
+            } catch (RuntimeException ex) {
+                log.error("Shutdown: flushing {} failed", flushable.getClass().getSimpleName(), ex);
+            }
+        });
+    }
+}
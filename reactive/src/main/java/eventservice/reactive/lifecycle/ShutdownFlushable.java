@@ -0,0 +1,13 @@
+package eventservice.reactive.lifecycle;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Batched work that has to be written out after in-flight requests have drained and
+ * before the Mongo and WebClient pools are closed.
+ */
+public interface ShutdownFlushable {
+
+    Mono<Void> flush();
+
+}
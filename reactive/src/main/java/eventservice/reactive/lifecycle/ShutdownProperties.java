@@ -0,0 +1,15 @@
+package eventservice.reactive.lifecycle;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("shutdown")
+public class ShutdownProperties {
+
+    private Duration drainTimeout = Duration.ofSeconds(20);
+    private Duration readinessGracePeriod = Duration.ZERO;
+
+}
@@ -0,0 +1,105 @@
+package eventservice.reactive.logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one access log event per request to the "access" logger. The logger is an async
+ * logger (see log4j2-spring.xml), so the event loop only pays for putting the event on the
+ * ring buffer; formatting and I/O happen on the log4j background thread. The numeric
+ * fields are boxed per request: the JSON layout reads the message parameters on that
+ * background thread, after this call returns, so Log4j's reusable {@code Unbox} buffers
+ * cannot be used here. When the ring buffer is full, access events are discarded rather
+ * than blocking the event loop (see log4j2.component.properties). The logged size is the
+ * number of body bytes handed to the server, counted as they are written, so it is known
+ * for chunked responses too; it is measured before transport compression.
+ */
+@Component
+@ConditionalOnProperty(prefix = "access-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter implements WebFilter, Ordered {
+
+    private static final Logger ACCESS_LOG = LogManager.getLogger("access");
+    private static final String UNMATCHED_ROUTE = "unmatched";
+    private static final int DEFAULT_STATUS = 200;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+        long startedAt = System.nanoTime();
+        RequestTimings timings = new RequestTimings();
+        CountingResponse response = new CountingResponse(exchange.getResponse());
+        return chain.filter(exchange.mutate().response(response).build())
+                .contextWrite(Context.of(RequestTimings.class, timings))
+                .doFinally(signal -> log(exchange, response, timings, System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+
+    private static void log(ServerWebExchange exchange, CountingResponse response, RequestTimings timings,
+                            long latencyNanos) {
+        PathPattern pattern = exchange.getAttribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE);
+        Integer status = exchange.getResponse().getRawStatusCode();
+        ACCESS_LOG.info("{} {} {} {} {} {} {} {}",
+                exchange.getRequest().getMethodValue(),
+                pattern != null ? pattern.getPatternString() : UNMATCHED_ROUTE,
+                exchange.getRequest().getPath().value(),
+                status != null ? status : DEFAULT_STATUS,
+                TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+                response.getBytesWritten(),
+                TimeUnit.NANOSECONDS.toMicros(timings.getMongoNanos()),
+                TimeUnit.NANOSECONDS.toMicros(timings.getUpstreamNanos()));
+    }
+
+    /**
+     * Counts the body bytes as they pass to the server. Writes for one response are serial,
+     * so a plain volatile counter is enough.
+     */
+    private static final class CountingResponse extends ServerHttpResponseDecorator {
+
+        private volatile long bytesWritten;
+
+        CountingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::count));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(this::count)));
+        }
+
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        private void count(DataBuffer buffer) {
+            bytesWritten += buffer.readableByteCount();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package eventservice.reactive.logging;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Function;
+
+/**
+ * Time spent in Mongo and in the upstream service while handling one request. The access
+ * log filter puts an instance into the Reactor context; calls wrapped with {@link #mongo()}
+ * or {@link #upstream()} add to it and are left untouched when no instance is present.
+ */
+public class RequestTimings {
+
+    private static final AtomicLongFieldUpdater<RequestTimings> MONGO_NANOS =
+            AtomicLongFieldUpdater.newUpdater(RequestTimings.class, "mongoNanos");
+    private static final AtomicLongFieldUpdater<RequestTimings> UPSTREAM_NANOS =
+            AtomicLongFieldUpdater.newUpdater(RequestTimings.class, "upstreamNanos");
+
+    private volatile long mongoNanos;
+    private volatile long upstreamNanos;
+
+    public static <T> Function<Mono<T>, Mono<T>> mongo() {
+        return mono -> timed(mono, MONGO_NANOS);
+    }
+
+    public static <T> Function<Mono<T>, Mono<T>> upstream() {
+        return mono -> timed(mono, UPSTREAM_NANOS);
+    }
+
+    public long getMongoNanos() {
+        return mongoNanos;
+    }
+
+    public long getUpstreamNanos() {
+        return upstreamNanos;
+    }
+
+    private static <T> Mono<T> timed(Mono<T> mono, AtomicLongFieldUpdater<RequestTimings> counter) {
+        return Mono.deferContextual(context -> {
+            RequestTimings timings = context.getOrDefault(RequestTimings.class, null);
+            if (timings == null) {
+                return mono;
+            }
+            long startedAt = System.nanoTime();
+            // Recorded before the terminal signal travels downstream: doFinally would run only
+            // after the access log filter had already written the request out.
+            Runnable record = () -> counter.addAndGet(timings, System.nanoTime() - startedAt);
+            return mono.doOnTerminate(record).doOnCancel(record);
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package eventservice.reactive.model;
+
+import eventservice.reactive.audit.AuditAction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "userAudit")
+public class AuditModel {
+
+    @Id
+    private String id;
+
+    private AuditAction action;
+    private String username;
+    private Instant timestamp;
+
+}
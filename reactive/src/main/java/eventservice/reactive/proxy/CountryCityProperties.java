@@ -0,0 +1,12 @@
+package eventservice.reactive.proxy;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("country-city")
+public class CountryCityProperties {
+
+    private String baseUrl = "http://localhost:8081/api/country-city-service/v1";
+
+}
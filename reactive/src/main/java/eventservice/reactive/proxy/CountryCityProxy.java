@@ -1,36 +1,60 @@
 package eventservice.reactive.proxy;
 
+import eventservice.reactive.cache.MultiLevelCache;
+import eventservice.reactive.logging.RequestTimings;
 import eventservice.reactive.model.CityModel;
 import eventservice.reactive.model.CountryModel;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.net.ConnectException;
+import java.util.List;
 
-@RequiredArgsConstructor
 @Component
 public class CountryCityProxy {
 
+    private static final String ALL_COUNTRIES = "all";
+
+    private final WebClient webClient;
+    private final MultiLevelCache<List<CountryModel>> countryCache;
+    private final MultiLevelCache<List<CityModel>> cityCache;
+
+    public CountryCityProxy(CountryCityProperties properties, WebClient.Builder webClientBuilder,
+                            ConnectionProvider upstreamConnectionProvider,
+                            MultiLevelCache<List<CountryModel>> countryCache,
+                            MultiLevelCache<List<CityModel>> cityCache) {
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(upstreamConnectionProvider)))
+                .baseUrl(properties.getBaseUrl())
+                .build();
+        this.countryCache = countryCache;
+        this.cityCache = cityCache;
+    }
+
     public Flux<CountryModel> findCountries(){
-        WebClient webClient = WebClient.create("http://localhost:8081/api/country-city-service/v1");
-        return webClient.get()
-                .uri("/countries")
-                .retrieve()
-                .bodyToFlux(CountryModel.class)
+        return countryCache.get(ALL_COUNTRIES, () -> webClient.get()
+                        .uri("/countries")
+                        .retrieve()
+                        .bodyToFlux(CountryModel.class)
+                        .collectList()
+                        .transform(RequestTimings.upstream()))
+                .flatMapIterable(countries -> countries)
                 .onErrorResume(ConnectException.class, ex -> Flux.error(RuntimeException::new));
     }
 
     public Flux<CityModel> findCities(String countryId){
-        WebClient webClient = WebClient.create("http://localhost:8081/api/country-city-service/v1");
-        return webClient.get()
-                .uri("/cities/" + countryId)
-                .retrieve()
-                .bodyToFlux(CityModel.class)
+        return cityCache.get(countryId, () -> webClient.get()
+                        .uri("/cities/" + countryId)
+                        .retrieve()
+                        .bodyToFlux(CityModel.class)
+                        .collectList()
+                        .transform(RequestTimings.upstream()))
+                .flatMapIterable(cities -> cities)
                 .onErrorResume(ConnectException.class, ex -> Flux.error(RuntimeException::new));
 
     }
-}
\ No newline at end of file
+}
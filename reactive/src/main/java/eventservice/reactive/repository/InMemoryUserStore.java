@@ -0,0 +1,192 @@
+package eventservice.reactive.repository;
+
+import eventservice.reactive.exception.EmailExistsException;
+import eventservice.reactive.exception.UsernameExistsException;
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.model.UserModel;
+import org.bson.types.ObjectId;
+import reactor.core.publisher.Mono;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Concurrent in-memory {@link UserStore} with username and email hash indexes next to the
+ * primary id map. Reads are lock-free; writes are serialized so the uniqueness check and the
+ * index update happen atomically. With a {@link UserStoreLog} writes run on the
+ * {@link BlockingExecution}: each change is queued for the log in the order it was applied,
+ * and after leaving the map lock the writer appends everything queued so far, so a save
+ * completes only once its record is in the log. Log I/O (remapping, compaction) never runs
+ * under the map lock. The state is rebuilt from the log on start.
+ */
+public class InMemoryUserStore implements UserStore, Closeable {
+
+    static {
+        // ObjectId seeds itself from SecureRandom on first use; do that read here rather than
+        // on whichever event-loop thread saves the first user.
+        new ObjectId();
+    }
+
+    private final Map<String, UserModel> usersById = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByUsername = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByEmail = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final Object logLock = new Object();
+    private final Queue<Runnable> pendingLogWrites = new ConcurrentLinkedQueue<>();
+    private final UserStoreLog log;
+    private final BlockingExecution blockingExecution;
+
+    public InMemoryUserStore() {
+        this(null, null);
+    }
+
+    public InMemoryUserStore(UserStoreLog log, BlockingExecution blockingExecution) {
+        this.log = log;
+        this.blockingExecution = blockingExecution;
+        if (log != null) {
+            log.replay(this::index, this::unindex);
+        }
+    }
+
+    @Override
+    public Mono<UserModel> findByUsername(String username) {
+        return Mono.fromSupplier(() -> {
+            UserModel user = lookup(idsByUsername.get(username));
+            return user != null && username.equals(user.getUsername()) ? copy(user) : null;
+        });
+    }
+
+    @Override
+    public Mono<UserModel> findByEmail(String email) {
+        return Mono.fromSupplier(() -> {
+            UserModel user = lookup(idsByEmail.get(email));
+            return user != null && email.equals(user.getEmail()) ? copy(user) : null;
+        });
+    }
+
+    @Override
+    public Mono<UserModel> save(UserModel userModel) {
+        return write(() -> {
+            UserModel stored = copy(userModel);
+            synchronized (writeLock) {
+                String id = userModel.getId() != null ? userModel.getId() : new ObjectId().toHexString();
+                if (isTakenByOther(idsByUsername, userModel.getUsername(), id)) {
+                    throw new UsernameExistsException();
+                }
+                if (isTakenByOther(idsByEmail, userModel.getEmail(), id)) {
+                    throw new EmailExistsException();
+                }
+                stored.setId(id);
+                index(stored);
+                queueLogWrite(() -> log.appendPut(stored));
+            }
+            flushLog();
+            return copy(stored);
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return write(() -> {
+            synchronized (writeLock) {
+                if (!usersById.containsKey(id)) {
+                    return null;
+                }
+                unindex(id);
+                queueLogWrite(() -> log.appendDelete(id));
+            }
+            flushLog();
+            return null;
+        }).then();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (log != null) {
+            synchronized (logLock) {
+                flushLog();
+                log.close();
+            }
+        }
+    }
+
+    private <T> Mono<T> write(Callable<T> task) {
+        return log != null ? blockingExecution.call(task) : Mono.fromCallable(task);
+    }
+
+    private void queueLogWrite(Runnable append) {
+        if (log != null) {
+            pendingLogWrites.add(append);
+        }
+    }
+
+    /**
+     * Appends every queued record in order. A caller's own record was queued before it gets
+     * here, so once this returns that record is in the log, whichever thread wrote it.
+     */
+    private void flushLog() {
+        if (log == null) {
+            return;
+        }
+        synchronized (logLock) {
+            Runnable append;
+            while ((append = pendingLogWrites.poll()) != null) {
+                append.run();
+            }
+            if (log.needsCompaction()) {
+                // The maps may already hold changes still queued behind this point; their records
+                // follow the snapshot and replaying them over it gives the same state.
+                log.compact(usersById.values());
+            }
+        }
+    }
+
+    private void index(UserModel user) {
+        UserModel previous = usersById.put(user.getId(), user);
+        if (previous != null) {
+            removeKey(idsByUsername, previous.getUsername(), user.getId());
+            removeKey(idsByEmail, previous.getEmail(), user.getId());
+        }
+        if (user.getUsername() != null) {
+            idsByUsername.put(user.getUsername(), user.getId());
+        }
+        if (user.getEmail() != null) {
+            idsByEmail.put(user.getEmail(), user.getId());
+        }
+    }
+
+    private void unindex(String id) {
+        UserModel previous = usersById.remove(id);
+        if (previous != null) {
+            removeKey(idsByUsername, previous.getUsername(), id);
+            removeKey(idsByEmail, previous.getEmail(), id);
+        }
+    }
+
+    private UserModel lookup(String id) {
+        return id != null ? usersById.get(id) : null;
+    }
+
+    private static boolean isTakenByOther(Map<String, String> index, String key, String id) {
+        if (key == null) {
+            return false;
+        }
+        String owner = index.get(key);
+        return owner != null && !owner.equals(id);
+    }
+
+    private static void removeKey(Map<String, String> index, String key, String id) {
+        if (key != null) {
+            index.remove(key, id);
+        }
+    }
+
+    private static UserModel copy(UserModel user) {
+        return new UserModel(user.getId(), user.getUsername(), user.getEmail(), user.getPassword(), user.getRole());
+    }
+}
@@ -0,0 +1,73 @@
+package eventservice.reactive.repository;
+
+import eventservice.reactive.exception.EmailExistsException;
+import eventservice.reactive.exception.UsernameExistsException;
+import eventservice.reactive.model.UserModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import reactor.core.publisher.Mono;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link UserStore} over the users collection. Username and email uniqueness is enforced by
+ * the unique indexes created in {@link #ensureIndexes}, and a duplicate key error is mapped to
+ * the matching exception by the name of the index that rejected the write.
+ */
+@RequiredArgsConstructor
+public class MongoUserStore implements UserStore {
+
+    private static final String USERNAME_INDEX = "username";
+    private static final String EMAIL_INDEX = "email";
+    private static final Pattern DUPLICATE_INDEX = Pattern.compile("index: (\\S+) dup key");
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Mono<UserModel> findByUsername(String username) {
+        return userRepository.findByUsername(username);
+    }
+
+    @Override
+    public Mono<UserModel> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    @Override
+    public Mono<UserModel> save(UserModel userModel) {
+        return userRepository.save(userModel)
+                .onErrorMap(DuplicateKeyException.class, ex -> EMAIL_INDEX.equals(duplicateIndex(ex))
+                        ? new EmailExistsException() : new UsernameExistsException());
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return userRepository.deleteById(id);
+    }
+
+    /**
+     * Creates the unique username and email indexes, completing with an error if either cannot
+     * be built. Building fails when the collection already holds duplicates; remove or rename
+     * those users first (group by the field with a count above one) and restart.
+     */
+    public static Mono<Void> ensureIndexes(ReactiveMongoOperations mongoOperations) {
+        ReactiveIndexOperations indexOps = mongoOperations.indexOps(UserModel.class);
+        return indexOps.ensureIndex(uniqueIndex(USERNAME_INDEX))
+                .then(indexOps.ensureIndex(uniqueIndex(EMAIL_INDEX)))
+                .then();
+    }
+
+    private static Index uniqueIndex(String field) {
+        return new Index(field, Sort.Direction.ASC).unique().named(field);
+    }
+
+    private static String duplicateIndex(DuplicateKeyException ex) {
+        Matcher matcher = ex.getMessage() != null ? DUPLICATE_INDEX.matcher(ex.getMessage()) : null;
+        return matcher != null && matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,22 @@
+package eventservice.reactive.repository;
+
+import eventservice.reactive.model.UserModel;
+import reactor.core.publisher.Mono;
+
+/**
+ * Storage SPI behind {@link eventservice.reactive.service.UserService}. Implementations
+ * keep username and email unique and reject a conflicting save with
+ * {@link eventservice.reactive.exception.UsernameExistsException} or
+ * {@link eventservice.reactive.exception.EmailExistsException}.
+ */
+public interface UserStore {
+
+    Mono<UserModel> findByUsername(String username);
+
+    Mono<UserModel> findByEmail(String email);
+
+    Mono<UserModel> save(UserModel userModel);
+
+    Mono<Void> deleteById(String id);
+
+}
@@ -0,0 +1,205 @@
+package eventservice.reactive.repository;
+
+import eventservice.reactive.model.UserModel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped change log for {@link InMemoryUserStore} with snapshot
+ * compaction. Each record is an int payload length, a CRC-32 of the payload, and the payload:
+ * an op byte and the fields. An append writes the payload and checksum first and the length
+ * last, with a zero length after the record that marks the end of the log for replay. Replay
+ * stops at the first record whose length or checksum does not hold, so a write torn by a
+ * crash ends the log instead of being decoded; the next append overwrites it. Compaction
+ * writes all live users to a snapshot file, swaps it in atomically and restarts the log from
+ * the beginning of the mapping.
+ */
+public class UserStoreLog implements Closeable {
+
+    private static final String LOG_FILE = "users.log";
+    private static final String SNAPSHOT_FILE = "users.snapshot";
+    private static final String SNAPSHOT_TMP_FILE = "users.snapshot.tmp";
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int NULL_LENGTH = -1;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final long compactionThreshold;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    public UserStoreLog(Path directory, long initialMappedSize, long compactionThreshold) {
+        this.directory = directory;
+        this.compactionThreshold = compactionThreshold;
+        try {
+            Files.createDirectories(directory);
+            this.channel = FileChannel.open(directory.resolve(LOG_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(initialMappedSize, channel.size()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void replay(Consumer<UserModel> onPut, Consumer<String> onDelete) {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        try {
+            if (Files.exists(snapshot)) {
+                readRecords(ByteBuffer.wrap(Files.readAllBytes(snapshot)), onPut, onDelete);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        buffer.position(0);
+        readRecords(buffer, onPut, onDelete);
+    }
+
+    public void appendPut(UserModel userModel) {
+        append(encodePut(userModel));
+    }
+
+    public void appendDelete(String id) {
+        append(encode(DELETE, id));
+    }
+
+    public boolean needsCompaction() {
+        return buffer.position() >= compactionThreshold;
+    }
+
+    public void compact(Collection<UserModel> users) {
+        Path tmp = directory.resolve(SNAPSHOT_TMP_FILE);
+        try (FileChannel snapshot = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (UserModel user : users) {
+                byte[] record = encodePut(user);
+                ByteBuffer framed = ByteBuffer.allocate(HEADER_BYTES + record.length);
+                framed.putInt(record.length).putInt(checksum(ByteBuffer.wrap(record))).put(record).flip();
+                while (framed.hasRemaining()) {
+                    snapshot.write(framed);
+                }
+            }
+            snapshot.force(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        try {
+            Files.move(tmp, directory.resolve(SNAPSHOT_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        buffer.putInt(0, 0);
+        buffer.position(0);
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void append(byte[] record) {
+        ensureCapacity(HEADER_BYTES + record.length + Integer.BYTES);
+        int start = buffer.position();
+        buffer.position(start + HEADER_BYTES);
+        buffer.put(record);
+        buffer.putInt(buffer.position(), 0);
+        buffer.putInt(start + Integer.BYTES, checksum(ByteBuffer.wrap(record)));
+        buffer.putInt(start, record.length);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (buffer.remaining() >= needed) {
+            return;
+        }
+        int position = buffer.position();
+        long size = Math.max((long) buffer.capacity() * 2, (long) position + needed);
+        try {
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        buffer.position(position);
+    }
+
+    private static void readRecords(ByteBuffer records, Consumer<UserModel> onPut, Consumer<String> onDelete) {
+        while (records.remaining() >= HEADER_BYTES) {
+            int start = records.position();
+            int length = records.getInt();
+            int checksum = records.getInt();
+            if (length <= 0 || length > records.remaining()) {
+                records.position(start);
+                return;
+            }
+            ByteBuffer payload = records.slice();
+            payload.limit(length);
+            if (checksum(payload.duplicate()) != checksum) {
+                records.position(start);
+                return;
+            }
+            byte op = payload.get();
+            if (op == PUT) {
+                onPut.accept(new UserModel(readString(payload), readString(payload), readString(payload),
+                        readString(payload), readString(payload)));
+            } else if (op == DELETE) {
+                onDelete.accept(readString(payload));
+            }
+            records.position(start + HEADER_BYTES + length);
+        }
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encodePut(UserModel userModel) {
+        return encode(PUT, userModel.getId(), userModel.getUsername(), userModel.getEmail(),
+                userModel.getPassword(), userModel.getRole());
+    }
+
+    private static byte[] encode(byte op, String... fields) {
+        byte[][] encoded = new byte[fields.length][];
+        int length = 1;
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = fields[i] != null ? fields[i].getBytes(StandardCharsets.UTF_8) : null;
+            length += Integer.BYTES + (encoded[i] != null ? encoded[i].length : 0);
+        }
+        ByteBuffer record = ByteBuffer.allocate(length).put(op);
+        for (byte[] field : encoded) {
+            if (field == null) {
+                record.putInt(NULL_LENGTH);
+            } else {
+                record.putInt(field.length).put(field);
+            }
+        }
+        return record.array();
+    }
+
+    private static String readString(ByteBuffer records) {
+        int length = records.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        records.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
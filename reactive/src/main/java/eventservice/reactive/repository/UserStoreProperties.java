@@ -0,0 +1,31 @@
+package eventservice.reactive.repository;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties("user-store")
+public class UserStoreProperties {
+
+    private Engine engine = Engine.MONGO;
+    private final Persistence persistence = new Persistence();
+
+    /**
+     * Selects the {@link UserStore}. With {@code IN_MEMORY}, Mongo auto-configuration and the
+     * {@link UserRepository} bean are still registered, but the reactive driver connects lazily,
+     * so nothing reaches Mongo unless another component issues a query. With {@code MONGO},
+     * startup creates the unique indexes and fails if they cannot be built.
+     */
+    public enum Engine {
+        MONGO, IN_MEMORY
+    }
+
+    @Data
+    public static class Persistence {
+        private boolean enabled = false;
+        private String directory = "data/users";
+        private DataSize initialMappedSize = DataSize.ofMegabytes(4);
+        private DataSize compactionThreshold = DataSize.ofMegabytes(64);
+    }
+}
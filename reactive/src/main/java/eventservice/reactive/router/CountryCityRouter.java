@@ -14,13 +14,12 @@ import org.springframework.web.reactive.function.server.RequestPredicates;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
-@Configuration
+@Configuration(proxyBeanMethods = false)
 @RequiredArgsConstructor
 public class CountryCityRouter {
     private final CountryCityProxy countryCityProxy;
@@ -29,8 +28,11 @@ public class CountryCityRouter {
     public RouterFunction<ServerResponse> findCountries() {
         return route(RequestPredicates.GET("/api/v3/countries"), request -> {
             Flux<CountryModel> response = countryCityProxy.findCountries();
-            return response.collectList().flatMap(data -> ServerResponse.ok().body(Mono.just(data), CountryModel.class))
+            return response.collectList().flatMap(data -> ServerResponse.ok()
+                            .contentType(ResponseMediaTypes.negotiate(request))
+                            .bodyValue(data))
                     .onErrorResume(ex -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .contentType(ResponseMediaTypes.negotiate(request))
                             .bodyValue(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
                                     ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString())));
         });
@@ -42,8 +44,11 @@ public class CountryCityRouter {
         return route(RequestPredicates.GET("/api/v3/cities/{cityId}"), request -> {
             String countryId = request.pathVariable("cityId");
             Flux<CityModel> response = countryCityProxy.findCities(countryId);
-            return response.collectList().flatMap(data -> ServerResponse.ok().body(Mono.just(data), CityModel.class))
+            return response.collectList().flatMap(data -> ServerResponse.ok()
+                            .contentType(ResponseMediaTypes.negotiate(request))
+                            .bodyValue(data))
                     .onErrorResume(ex -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .contentType(ResponseMediaTypes.negotiate(request))
                             .bodyValue(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
                                     ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString())));
         });
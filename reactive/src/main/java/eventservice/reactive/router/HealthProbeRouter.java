@@ -0,0 +1,61 @@
+package eventservice.reactive.router;
+
+import eventservice.reactive.health.DependencyProbes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Liveness and readiness probes for the orchestrator. Both answer from state that
+ * {@link DependencyProbes} keeps up to date in the background, with responses built once,
+ * so a probe never reaches Mongo or the upstream and is served directly on the event loop.
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+public class HealthProbeRouter {
+
+    private static final Mono<ServerResponse> UP = probeResponse(HttpStatus.OK, "UP");
+    private static final Mono<ServerResponse> DOWN = probeResponse(HttpStatus.SERVICE_UNAVAILABLE, "DOWN");
+
+    private final DependencyProbes dependencyProbes;
+
+    @Bean
+    public RouterFunction<ServerResponse> liveness() {
+        return route(RequestPredicates.GET("/probes/live"),
+                request -> dependencyProbes.isLive() ? UP : DOWN);
+    }
+
+
+    @Bean
+    public RouterFunction<ServerResponse> readiness() {
+        return route(RequestPredicates.GET("/probes/ready"),
+                request -> dependencyProbes.isReady() ? UP : DOWN);
+    }
+
+
+    @Bean
+    public RouterFunction<ServerResponse> dependencies() {
+        return route(RequestPredicates.GET("/probes/dependencies"),
+                request -> ServerResponse.status(dependencyProbes.isHealthy() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(dependencyProbes.getReport()));
+    }
+
+    private static Mono<ServerResponse> probeResponse(HttpStatus status, String state) {
+        byte[] body = ("{\"status\":\"" + state + "\"}").getBytes(StandardCharsets.UTF_8);
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .cache();
+    }
+}
@@ -0,0 +1,35 @@
+package eventservice.reactive.router;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ResponseMediaTypes {
+
+    static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final List<MediaType> SUPPORTED =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private ResponseMediaTypes() {
+    }
+
+    static MediaType negotiate(ServerRequest request) {
+        List<MediaType> accepted = request.headers().accept();
+        if (accepted.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> sorted = new ArrayList<>(accepted);
+        MediaType.sortBySpecificityAndQuality(sorted);
+        for (MediaType acceptedType : sorted) {
+            for (MediaType supportedType : SUPPORTED) {
+                if (acceptedType.isCompatibleWith(supportedType)) {
+                    return supportedType;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
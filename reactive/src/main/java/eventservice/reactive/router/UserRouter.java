@@ -22,7 +22,7 @@ import static org.springframework.web.reactive.function.server.RouterFunctions.r
 
 
 @RequiredArgsConstructor
-@Configuration
+@Configuration(proxyBeanMethods = false)
 public class UserRouter {
     private final UserService service;
 
@@ -32,16 +32,20 @@ public class UserRouter {
         return route(RequestPredicates.GET("/api/v3/users/{username}"), request -> {
             String username = request.pathVariable("username");
             Mono<UserModel> response = service.findUserDetails(username);
-            return response.flatMap(data -> ServerResponse.ok().body(Mono.just(data), UserModel.class))
+            return response.flatMap(data -> ServerResponse.ok()
+                            .contentType(ResponseMediaTypes.negotiate(request))
+                            .bodyValue(data))
                     .onErrorResume(err -> {
                         if (err instanceof UserNotFoundException) {
                             return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 404, ErrorStatusConstants.NOT_FOUND,
-                                            ErrorMessageConstants.USERNAME_NOT_EXIST, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 404, ErrorStatusConstants.NOT_FOUND,
+                                            ErrorMessageConstants.USERNAME_NOT_EXIST, request.uri().toString()));
                         } else {
                             return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
-                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
+                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString()));
                         }});
         });
     }
@@ -52,25 +56,31 @@ public class UserRouter {
         return route(RequestPredicates.POST("/api/v3/users"), request -> {
             Mono<UserModel> userModel = request.bodyToMono(UserModel.class);
             Mono<UserModel> response = userModel.flatMap(service::saveUser);
-            return response.flatMap(data -> ServerResponse.ok().body(Mono.just(data), UserModel.class))
+            return response.flatMap(data -> ServerResponse.ok()
+                            .contentType(ResponseMediaTypes.negotiate(request))
+                            .bodyValue(data))
                     .onErrorResume(err -> {
                         if (err instanceof UsernameExistsException) {
                             return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
-                                            ErrorMessageConstants.USERNAME_REGISTERED, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
+                                            ErrorMessageConstants.USERNAME_REGISTERED, request.uri().toString()));
                         } else if (err instanceof EmailExistsException) {
                             return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
-                                            ErrorMessageConstants.EMAIL_REGISTERED, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
+                                            ErrorMessageConstants.EMAIL_REGISTERED, request.uri().toString()));
                         } else if (err instanceof ConstraintViolationException) {
                             return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
-                                            err.toString().replaceAll(".+: ", ""), request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
+                                            err.toString().replaceAll(".+: ", ""), request.uri().toString()));
                         }
                         else {
                             return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
-                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
+                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString()));
                         }});
         });
     }
@@ -82,20 +92,35 @@ public class UserRouter {
             Mono<UserModel> userModel = request.bodyToMono(UserModel.class);
             String username = request.pathVariable("username");
             Mono<UserModel> response = userModel.flatMap(user -> service.editUser(user, username));
-            return response.flatMap(data -> ServerResponse.ok().body(Mono.just(data), UserModel.class))
+            return response.flatMap(data -> ServerResponse.ok()
+                            .contentType(ResponseMediaTypes.negotiate(request))
+                            .bodyValue(data))
                     .onErrorResume(err -> {
                         if (err instanceof UserNotFoundException) {
                             return ServerResponse.status(HttpStatus.NOT_FOUND)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 404, ErrorStatusConstants.NOT_FOUND,
-                                            ErrorMessageConstants.USERNAME_NOT_EXIST, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 404, ErrorStatusConstants.NOT_FOUND,
+                                            ErrorMessageConstants.USERNAME_NOT_EXIST, request.uri().toString()));
+                        } else if (err instanceof UsernameExistsException) {
+                            return ServerResponse.status(HttpStatus.BAD_REQUEST)
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
+                                            ErrorMessageConstants.USERNAME_REGISTERED, request.uri().toString()));
+                        } else if (err instanceof EmailExistsException) {
+                            return ServerResponse.status(HttpStatus.BAD_REQUEST)
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
+                                            ErrorMessageConstants.EMAIL_REGISTERED, request.uri().toString()));
                         } else if (err instanceof ConstraintViolationException) {
                             return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
-                                            err.toString().replaceAll(".+: ", ""), request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 400, ErrorStatusConstants.BAD_REQUEST,
+                                            err.toString().replaceAll(".+: ", ""), request.uri().toString()));
                         } else {
                             return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
-                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
+                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString()));
                         }});
         });
     }
@@ -110,12 +135,14 @@ public class UserRouter {
                     .onErrorResume(err -> {
                         if (err instanceof UserNotFoundException) {
                             return ServerResponse.status(HttpStatus.NOT_FOUND)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 404, ErrorStatusConstants.NOT_FOUND,
-                                            ErrorMessageConstants.USERNAME_NOT_EXIST, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 404, ErrorStatusConstants.NOT_FOUND,
+                                            ErrorMessageConstants.USERNAME_NOT_EXIST, request.uri().toString()));
                         } else {
                             return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                                    .body(Mono.just(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
-                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString())), ErrorModel.class);
+                                    .contentType(ResponseMediaTypes.negotiate(request))
+                                    .bodyValue(new ErrorModel(LocalDate.now(), 500, ErrorStatusConstants.INTERNAL_SERVER_ERROR,
+                                            ErrorMessageConstants.INTERNAL_SERVER_ERROR, request.uri().toString()));
                         }
                     });
         });
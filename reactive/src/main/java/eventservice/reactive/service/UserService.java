@@ -1,10 +1,14 @@
 package eventservice.reactive.service;
 
+import eventservice.reactive.audit.AuditAction;
+import eventservice.reactive.audit.AuditTrail;
+import eventservice.reactive.cache.MultiLevelCache;
 import eventservice.reactive.exception.UsernameExistsException;
 import eventservice.reactive.model.UserModel;
 import eventservice.reactive.exception.EmailExistsException;
 import eventservice.reactive.exception.UserNotFoundException;
-import eventservice.reactive.repository.UserRepository;
+import eventservice.reactive.logging.RequestTimings;
+import eventservice.reactive.repository.UserStore;
 import eventservice.reactive.utils.UserRoleConstants;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,11 +25,13 @@ import java.util.Set;
 public class UserService {
 
 
-    private final UserRepository userRepository;
+    private final UserStore userStore;
     private final Validator validator;
+    private final MultiLevelCache<UserModel> userCache;
+    private final AuditTrail auditTrail;
 
     public Mono<UserModel> findUserDetails(String username) {
-        return userRepository.findByUsername(username)
+        return userCache.get(username, () -> userStore.findByUsername(username).transform(RequestTimings.mongo()))
                 .switchIfEmpty(Mono.error(UserNotFoundException::new));
     }
 
@@ -35,16 +41,20 @@ public class UserService {
         if (!violations.isEmpty()) {
             return Mono.error(new ConstraintViolationException(violations));
         }
-        return userRepository.findByUsername(userModel.getUsername()).hasElement().flatMap(hasUsername -> {
+        return userStore.findByUsername(userModel.getUsername()).transform(RequestTimings.mongo()).hasElement().flatMap(hasUsername -> {
             if (hasUsername) {
                 return Mono.error(UsernameExistsException::new);
             }
-            return userRepository.findByEmail(userModel.getEmail()).hasElement().flatMap(hasEmail -> {
+            return userStore.findByEmail(userModel.getEmail()).transform(RequestTimings.mongo()).hasElement().flatMap(hasEmail -> {
                 if (hasEmail) {
                     return Mono.error(EmailExistsException::new);
                 }
                 userModel.setRole(UserRoleConstants.USER);
-                return userRepository.save(userModel);
+                return userStore.save(userModel)
+                        .transform(RequestTimings.mongo())
+                        .flatMap(saved -> userCache.invalidate(saved.getUsername())
+                                .then(auditTrail.record(AuditAction.CREATE, saved.getUsername()))
+                                .thenReturn(saved));
 
             });
         });
@@ -59,18 +69,26 @@ public class UserService {
         return findUserDetails(username)
                 .switchIfEmpty(Mono.error(UsernameExistsException::new))
                 .flatMap(oldUserDetails -> {
+                    userModel.setId(oldUserDetails.getId());
                     userModel.setRole(oldUserDetails.getRole());
                     if(userModel.getPassword() == null) {
                             userModel.setPassword(userModel.getPassword());
                     }
-                    return userRepository.save(userModel);
-                });
+                    return userStore.save(userModel).transform(RequestTimings.mongo());
+                })
+                .flatMap(saved -> userCache.invalidate(username)
+                        .then(userCache.invalidate(saved.getUsername()))
+                        .then(auditTrail.record(AuditAction.EDIT, saved.getUsername()))
+                        .thenReturn(saved));
     }
 
 
     public Mono<Void> deleteUser(String username){
-        return userRepository.findByUsername(username)
+        return userStore.findByUsername(username)
+                .transform(RequestTimings.mongo())
                 .switchIfEmpty(Mono.error(UserNotFoundException::new))
-                .flatMap(user -> userRepository.deleteById(user.getId()));
+                .flatMap(user -> userStore.deleteById(user.getId()).transform(RequestTimings.mongo()))
+                .then(userCache.invalidate(username))
+                .then(auditTrail.record(AuditAction.DELETE, username));
     }
 }
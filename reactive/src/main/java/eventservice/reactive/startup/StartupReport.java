@@ -0,0 +1,114 @@
+package eventservice.reactive.startup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs how long the application took to get from JVM start to its first served request,
+ * split into the phases we track across releases, plus the slowest recorded startup steps.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupReport implements WebFilter, Ordered {
+
+    private static final int BUFFER_CAPACITY = 4096;
+    private static final int SLOWEST_STEPS = 10;
+
+    private final ConfigurableApplicationContext context;
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+    private volatile long webServerStartedAt;
+    @Getter
+    private volatile long readyAt;
+    @Getter
+    private volatile long firstRequestServedAt;
+
+    public static ApplicationStartup applicationStartup() {
+        return new BufferingApplicationStartup(BUFFER_CAPACITY);
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        webServerStartedAt = System.currentTimeMillis();
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        readyAt = System.currentTimeMillis();
+        long jvmStartedAt = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        if (context.getApplicationStartup() instanceof BufferingApplicationStartup) {
+            StartupTimeline timeline = ((BufferingApplicationStartup) context.getApplicationStartup())
+                    .drainBufferedTimeline();
+            long mainStartedAt = timeline.getStartTime().toEpochMilli();
+            log.info("Startup: jvm->main {}ms, main->web server {}ms, web server->ready {}ms, total {}ms",
+                    mainStartedAt - jvmStartedAt, webServerStartedAt - mainStartedAt,
+                    readyAt - webServerStartedAt, readyAt - jvmStartedAt);
+            log.info("Slowest startup steps:\n{}", describeSlowestSteps(timeline.getEvents()));
+        } else {
+            log.info("Startup: ready {}ms after JVM start", readyAt - jvmStartedAt);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (firstRequestSeen.get() || !firstRequestSeen.compareAndSet(false, true)) {
+            return chain.filter(exchange);
+        }
+        // Stamp on commit, before the client can see the response; log once the exchange is done.
+        exchange.getResponse().beforeCommit(() -> {
+            firstRequestServedAt = System.currentTimeMillis();
+            return Mono.empty();
+        });
+        return chain.filter(exchange).doFinally(signal -> {
+            if (firstRequestServedAt == 0) {
+                firstRequestServedAt = System.currentTimeMillis();
+            }
+            log.info("Startup: first request served {}ms after JVM start, {}ms after ready",
+                    firstRequestServedAt - ManagementFactory.getRuntimeMXBean().getStartTime(),
+                    firstRequestServedAt - readyAt);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private static String describeSlowestSteps(List<StartupTimeline.TimelineEvent> events) {
+        return events.stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_STEPS)
+                .map(event -> String.format("  %6dms %s %s", event.getDuration().toMillis(),
+                        event.getStartupStep().getName(), describeTags(event.getStartupStep())))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describeTags(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
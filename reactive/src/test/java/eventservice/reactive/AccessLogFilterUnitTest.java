@@ -0,0 +1,183 @@
+package eventservice.reactive;
+
+import eventservice.reactive.logging.AccessLogFilter;
+import eventservice.reactive.logging.RequestTimings;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.util.PropertiesUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * Runs the filter against the application's log4j2-spring.xml, with the async ring buffer
+ * shrunk to its minimum so that a stalled appender fills it quickly.
+ */
+public class AccessLogFilterUnitTest {
+
+    private static final String RING_BUFFER_SIZE = "log4j2.asyncLoggerConfigRingBufferSize";
+    private static final int RING_BUFFER_MIN_SIZE = 128;
+
+    static LoggerContext loggerContext;
+
+    AccessLogFilter filter = new AccessLogFilter();
+    CapturingAppender appender;
+
+
+    @BeforeAll
+    public static void configureLogging() throws Exception {
+        System.setProperty(RING_BUFFER_SIZE, String.valueOf(RING_BUFFER_MIN_SIZE));
+        PropertiesUtil.getProperties().reload();
+        loggerContext = (LoggerContext) LogManager.getContext(false);
+        loggerContext.setConfigLocation(AccessLogFilterUnitTest.class.getResource("/log4j2-spring.xml").toURI());
+    }
+
+
+    @AfterAll
+    public static void restoreLogging() {
+        System.clearProperty(RING_BUFFER_SIZE);
+        PropertiesUtil.getProperties().reload();
+        loggerContext.reconfigure();
+    }
+
+
+    @BeforeEach
+    public void addAppender(){
+        appender = new CapturingAppender();
+        appender.start();
+        LoggerConfig accessLog = loggerContext.getConfiguration().getLoggerConfig("access");
+        accessLog.addAppender(appender, null, null);
+        loggerContext.updateLoggers();
+    }
+
+
+    @AfterEach
+    public void removeAppender(){
+        appender.release.countDown();
+        loggerContext.getConfiguration().getLoggerConfig("access").removeAppender(appender.getName());
+        loggerContext.updateLoggers();
+        appender.stop();
+    }
+
+
+    @Test
+    public void filter_logsRequestFields(){
+        MockServerWebExchange exchange = matchedExchange();
+
+        filter.filter(exchange, ex -> Mono.delay(Duration.ofMillis(5))
+                        .transform(RequestTimings.mongo())
+                        .then(Mono.defer(() -> {
+                            ex.getResponse().setStatusCode(HttpStatus.CREATED);
+                            return ex.getResponse().writeWith(Flux.just("first chunk,", " second chunk")
+                                    .map(chunk -> ex.getResponse().bufferFactory()
+                                            .wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+                        })))
+                .block(Duration.ofSeconds(5));
+
+        appender.release.countDown();
+        String[] fields = awaitMessages(1).get(0).split(" ");
+        assertEquals(8, fields.length);
+        assertEquals("GET", fields[0]);
+        assertEquals("/api/v3/users/{username}", fields[1]);
+        assertEquals("/api/v3/users/Ronalds", fields[2]);
+        assertEquals("201", fields[3]);
+        assertTrue(Long.parseLong(fields[4]) >= Long.parseLong(fields[6]));
+        assertEquals("25", fields[5]);
+        assertTrue(Long.parseLong(fields[6]) >= 5_000);
+        assertEquals("0", fields[7]);
+    }
+
+
+    @Test
+    public void filter_discardsWhenQueueIsFull(){
+        int requests = RING_BUFFER_MIN_SIZE * 4;
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            filter.filter(matchedExchange(), ex -> Mono.empty()).block(Duration.ofSeconds(5));
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        appender.release.countDown();
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(5), "a full ring buffer must not block the caller");
+        List<String> logged = awaitMessages(1);
+        sleep(200);
+        assertTrue(logged.size() < requests, "expected events to be discarded, got " + logged.size());
+        assertTrue(logged.size() <= RING_BUFFER_MIN_SIZE + 1);
+    }
+
+
+    private static MockServerWebExchange matchedExchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v3/users/Ronalds"));
+        exchange.getAttributes().put(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE,
+                PathPatternParser.defaultInstance.parse("/api/v3/users/{username}"));
+        return exchange;
+    }
+
+    private List<String> awaitMessages(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (appender.messages.size() < expected && System.nanoTime() < deadline) {
+            sleep(10);
+        }
+        assertTrue(appender.messages.size() >= expected);
+        return appender.messages;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Records formatted access messages. Holds the log4j background thread on the first event
+     * until released, so the ring buffer behind it fills up.
+     */
+    static class CapturingAppender extends AbstractAppender {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        CapturingAppender() {
+            super("capturing", null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getMessage().getFormattedMessage());
+        }
+    }
+}
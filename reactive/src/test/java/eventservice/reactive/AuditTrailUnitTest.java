@@ -0,0 +1,269 @@
+package eventservice.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eventservice.reactive.audit.AuditAction;
+import eventservice.reactive.audit.AuditProperties;
+import eventservice.reactive.audit.AuditSpillFile;
+import eventservice.reactive.audit.AuditTrail;
+import eventservice.reactive.audit.AuditWriter;
+import eventservice.reactive.audit.FileAuditWriter;
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.execution.BlockingExecutionProperties;
+import eventservice.reactive.model.AuditModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+public class AuditTrailUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    AuditProperties properties;
+    RecordingWriter writer;
+    BlockingExecution blockingExecution;
+    AuditSpillFile spillFile;
+    SimpleMeterRegistry meterRegistry;
+
+
+    @BeforeEach
+    public void setUp(){
+        properties = new AuditProperties();
+        properties.setBatchSize(3);
+        properties.setBufferCapacity(10);
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        writer = new RecordingWriter();
+        blockingExecution = BlockingExecution.create(BlockingExecutionProperties.Mode.BOUNDED_ELASTIC);
+        spillFile = new AuditSpillFile(tempDir.resolve("audit-spill.jsonl"),
+                new ObjectMapper().findAndRegisterModules(), blockingExecution);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+
+    @AfterEach
+    public void tearDown(){
+        blockingExecution.close();
+    }
+
+
+    @Test
+    public void record_flushesWhenBatchIsFull(){
+        AuditTrail auditTrail = startedTrail();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(auditTrail.record(AuditAction.CREATE, "user" + i)).verifyComplete();
+        }
+
+        awaitWritten(3);
+        assertEquals(1, writer.batches.size());
+        assertEquals(0, auditTrail.getQueueDepth());
+    }
+
+
+    @Test
+    public void record_flushesWhenIntervalElapses(){
+        properties.setFlushInterval(Duration.ofMillis(50));
+        AuditTrail auditTrail = startedTrail();
+
+        StepVerifier.create(auditTrail.record(AuditAction.EDIT, "Ronalds")).verifyComplete();
+
+        awaitWritten(1);
+        assertEquals(AuditAction.EDIT, writer.written().get(0).getAction());
+    }
+
+
+    @Test
+    public void flush_drainsBufferOnShutdown(){
+        AuditTrail auditTrail = startedTrail();
+        auditTrail.record(AuditAction.CREATE, "Ronalds").block();
+        auditTrail.record(AuditAction.DELETE, "Ronalds").block();
+
+        StepVerifier.create(auditTrail.flush()).verifyComplete();
+
+        assertEquals(List.of("Ronalds", "Ronalds"),
+                writer.written().stream().map(AuditModel::getUsername).collect(Collectors.toList()));
+        assertEquals(0, auditTrail.getQueueDepth());
+    }
+
+
+    @Test
+    public void record_spillsWhenBufferIsFull(){
+        properties.setBatchSize(100);
+        properties.setBufferCapacity(2);
+        AuditTrail auditTrail = startedTrail();
+
+        for (int i = 0; i < 3; i++) {
+            auditTrail.record(AuditAction.CREATE, "user" + i).block();
+        }
+
+        assertEquals(1.0, meterRegistry.get("audit.spilled").counter().count());
+        List<AuditModel> spilled = spillFile.drain().block();
+        assertEquals(1, spilled.size());
+        assertEquals("user2", spilled.get(0).getUsername());
+    }
+
+
+    @Test
+    public void record_spillsAfterBackpressureTimeout(){
+        properties.setBatchSize(100);
+        properties.setBufferCapacity(1);
+        properties.setOverflowPolicy(AuditProperties.OverflowPolicy.BACKPRESSURE);
+        properties.setBackpressureTimeout(Duration.ofMillis(50));
+        AuditTrail auditTrail = startedTrail();
+
+        auditTrail.record(AuditAction.CREATE, "user0").block();
+        StepVerifier.create(auditTrail.record(AuditAction.CREATE, "user1")).verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("audit.spilled").counter().count());
+    }
+
+
+    @Test
+    public void flush_spillsBatchWhenWriterFails(){
+        writer.failing = true;
+        AuditTrail auditTrail = startedTrail();
+        auditTrail.record(AuditAction.CREATE, "Ronalds").block();
+
+        StepVerifier.create(auditTrail.flush()).verifyComplete();
+
+        assertEquals(1, spillFile.drain().block().size());
+    }
+
+
+    @Test
+    public void flush_keepsRunningWhenSpillFails(){
+        unwritableSpillFile();
+        writer.failing = true;
+        AuditTrail auditTrail = startedTrail();
+        for (int i = 0; i < 3; i++) {
+            auditTrail.record(AuditAction.CREATE, "user" + i).block();
+        }
+        awaitDropped(3);
+
+        writer.failing = false;
+        for (int i = 3; i < 6; i++) {
+            auditTrail.record(AuditAction.CREATE, "user" + i).block();
+        }
+
+        awaitWritten(3);
+        StepVerifier.create(auditTrail.flush()).verifyComplete();
+    }
+
+
+    @Test
+    public void record_neverFailsWhenSpillFails(){
+        unwritableSpillFile();
+        properties.setBatchSize(100);
+        properties.setBufferCapacity(1);
+        AuditTrail auditTrail = startedTrail();
+
+        auditTrail.record(AuditAction.CREATE, "user0").block();
+        StepVerifier.create(auditTrail.record(AuditAction.CREATE, "user1")).verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("audit.dropped").counter().count());
+    }
+
+
+    @Test
+    public void record_afterFinalFlush_spills(){
+        AuditTrail auditTrail = startedTrail();
+        auditTrail.flush().block();
+
+        StepVerifier.create(auditTrail.record(AuditAction.DELETE, "Ronalds")).verifyComplete();
+
+        assertTrue(writer.written().isEmpty());
+        assertEquals(0, auditTrail.getQueueDepth());
+        List<AuditModel> spilled = spillFile.drain().block();
+        assertEquals(1, spilled.size());
+        assertEquals("Ronalds", spilled.get(0).getUsername());
+    }
+
+
+    @Test
+    public void start_replaysSpilledRecords(){
+        spillFile.append(List.of(new AuditModel(null, AuditAction.DELETE, "Ronalds", Instant.now()))).block();
+
+        startedTrail();
+
+        awaitWritten(1);
+        assertTrue(spillFile.drain().block().isEmpty());
+    }
+
+
+    @Test
+    public void fileWriter_appendsBatches(){
+        AuditSpillFile auditFile = new AuditSpillFile(tempDir.resolve("audit.jsonl"),
+                new ObjectMapper().findAndRegisterModules(), blockingExecution);
+        AuditTrail auditTrail = new AuditTrail(properties, new FileAuditWriter(auditFile), spillFile, meterRegistry);
+        auditTrail.start();
+        auditTrail.record(AuditAction.CREATE, "Ronalds").block();
+        auditTrail.record(AuditAction.EDIT, "Ronalds").block();
+
+        StepVerifier.create(auditTrail.flush()).verifyComplete();
+
+        assertEquals(List.of(AuditAction.CREATE, AuditAction.EDIT),
+                auditFile.drain().block().stream().map(AuditModel::getAction).collect(Collectors.toList()));
+    }
+
+
+    private AuditTrail startedTrail() {
+        AuditTrail auditTrail = new AuditTrail(properties, writer, spillFile, meterRegistry);
+        auditTrail.start();
+        return auditTrail;
+    }
+
+    private void unwritableSpillFile() {
+        // A directory where the file should be makes every append fail.
+        spillFile = new AuditSpillFile(tempDir, new ObjectMapper().findAndRegisterModules(), blockingExecution);
+    }
+
+    private void awaitDropped(double expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("audit.dropped").counter().count() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, meterRegistry.get("audit.dropped").counter().count());
+    }
+
+    private void awaitWritten(int expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (writer.written().size() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, writer.written().size());
+    }
+
+
+    static class RecordingWriter implements AuditWriter {
+
+        final List<List<AuditModel>> batches = new CopyOnWriteArrayList<>();
+        volatile boolean failing;
+
+        @Override
+        public Mono<Void> write(List<AuditModel> batch) {
+            if (failing) {
+                return Mono.error(new IllegalStateException("audit collection unavailable"));
+            }
+            return Mono.fromRunnable(() -> batches.add(List.copyOf(batch)));
+        }
+
+        List<AuditModel> written() {
+            return batches.stream().flatMap(List::stream).collect(Collectors.toList());
+        }
+    }
+}
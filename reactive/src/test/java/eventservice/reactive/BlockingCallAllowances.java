@@ -0,0 +1,21 @@
+package eventservice.reactive;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+
+/**
+ * Known-safe blocking sites on non-blocking threads. Everything else keeps BlockHound's
+ * default behavior and fails the call with a {@link reactor.blockhound.BlockingOperationError}.
+ */
+public class BlockingCallAllowances implements BlockHoundIntegration {
+
+    @Override
+    public void applyTo(BlockHound.Builder builder) {
+        // Synchronous console logging from event-loop threads: short writes to stdout.
+        builder.allowBlockingCallsInside("org.apache.logging.log4j.core.appender.OutputStreamManager", "writeToDestination");
+        builder.allowBlockingCallsInside("org.apache.logging.log4j.core.appender.OutputStreamManager", "flushDestination");
+        // One-off SecureRandom seeding when the ObjectId class initializes.
+        builder.allowBlockingCallsInside("org.bson.types.ObjectId", "<clinit>");
+    }
+}
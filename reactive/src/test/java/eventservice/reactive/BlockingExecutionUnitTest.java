@@ -0,0 +1,86 @@
+package eventservice.reactive;
+
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.execution.BlockingExecutionProperties;
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+
+public class BlockingExecutionUnitTest {
+
+
+    @Test
+    public void call_offloadsBlockingWork(){
+        try (BlockingExecution blockingExecution = BlockingExecution.create(BlockingExecutionProperties.Mode.BOUNDED_ELASTIC)) {
+            Mono<String> result = Mono.delay(Duration.ofMillis(1))
+                    .flatMap(tick -> blockingExecution.call(() -> {
+                        Thread.sleep(10);
+                        return "done";
+                    }));
+
+            StepVerifier.create(result).expectNext("done").verifyComplete();
+        }
+    }
+
+
+    @Test
+    public void call_virtualThreads(){
+        Method isVirtual = virtualThreadCheck();
+        assumeTrue(isVirtual != null, "virtual threads need Java 21");
+
+        try (BlockingExecution blockingExecution = BlockingExecution.create(BlockingExecutionProperties.Mode.VIRTUAL_THREADS)) {
+            Mono<Object> result = Mono.delay(Duration.ofMillis(1))
+                    .flatMap(tick -> blockingExecution.call(() -> {
+                        Thread.sleep(10);
+                        return isVirtual.invoke(Thread.currentThread());
+                    }));
+
+            StepVerifier.create(result).expectNext(true).verifyComplete();
+        }
+    }
+
+
+    @Test
+    public void inlineBlockingCall_fails(){
+        Mono<String> result = Mono.delay(Duration.ofMillis(1))
+                .map(tick -> {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "done";
+                });
+
+        StepVerifier.create(result).expectError(BlockingOperationError.class).verify();
+    }
+
+
+    @Test
+    public void consoleLogging_isAllowed(){
+        Mono<String> result = Mono.delay(Duration.ofMillis(1))
+                .map(tick -> {
+                    LogManager.getLogger(BlockingExecutionUnitTest.class).error("logged on {}", Thread.currentThread().getName());
+                    return "done";
+                });
+
+        StepVerifier.create(result).expectNext("done").verifyComplete();
+    }
+
+
+    private static Method virtualThreadCheck() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+}
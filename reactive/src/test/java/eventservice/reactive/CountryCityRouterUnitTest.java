@@ -10,6 +10,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +50,34 @@ public class CountryCityRouterUnitTest {
     }
 
 
+    @Test
+    void findCountries_cbor(){
+        CountryModel countryModel = new CountryModel(1L, "Algeria");
+
+        Mockito.when(countryCityProxy.findCountries()).thenReturn(Flux.just(countryModel));
+
+        webTestClient.get().uri("/api/v3/countries")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR);
+    }
+
+
+    @Test
+    void findCities_smile(){
+        CityModel cityModel = new CityModel("La");
+
+        Mockito.when(countryCityProxy.findCities(any())).thenReturn(Flux.just(cityModel));
+
+        webTestClient.get().uri("/api/v3/cities/1")
+                .accept(MediaType.valueOf("application/x-jackson-smile"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/x-jackson-smile");
+    }
+
+
     @Test
     void findCities(){
         CityModel cityModel = new CityModel("La");
@@ -0,0 +1,215 @@
+package eventservice.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eventservice.reactive.health.DependencyCheck;
+import eventservice.reactive.health.DependencyProbes;
+import eventservice.reactive.health.EventLoopLagCheck;
+import eventservice.reactive.health.HealthProbeProperties;
+import eventservice.reactive.lifecycle.InFlightRequestTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+public class DependencyProbesUnitTest {
+
+    HealthProbeProperties properties;
+    ApplicationAvailabilityBean availability;
+    ApplicationEventPublisher eventPublisher;
+    InFlightRequestTracker inFlightRequestTracker;
+    SimpleMeterRegistry meterRegistry;
+
+
+    @BeforeEach
+    public void setUp(){
+        properties = new HealthProbeProperties();
+        properties.setTimeout(Duration.ofMillis(200));
+        availability = new ApplicationAvailabilityBean();
+        eventPublisher = event -> availability.onApplicationEvent((AvailabilityChangeEvent<?>) event);
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        inFlightRequestTracker = new InFlightRequestTracker();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+
+    @Test
+    public void refresh_allUp(){
+        DependencyProbes probes = probes(check("mongo", true, Mono.just(Duration.ofMillis(3))));
+
+        StepVerifier.create(probes.refresh()).verifyComplete();
+
+        assertTrue(probes.isHealthy());
+        assertTrue(probes.isReady());
+        assertTrue(report(probes).contains("\"status\":\"UP\""));
+        assertEquals(1.0, meterRegistry.get("probe.dependency.up").tag("dependency", "mongo").gauge().value());
+    }
+
+
+    @Test
+    public void refresh_criticalDownRefusesTrafficUntilRecovered(){
+        FlakyCheck mongo = new FlakyCheck("mongo", true);
+        DependencyProbes probes = probes(mongo);
+
+        mongo.up = false;
+        probes.refresh().block();
+        assertFalse(probes.isHealthy());
+        assertFalse(probes.isReady());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+
+        mongo.up = true;
+        probes.refresh().block();
+        assertTrue(probes.isReady());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+
+
+    @Test
+    public void refresh_nonCriticalDownIsOnlyReported(){
+        DependencyProbes probes = probes(check("upstream", false, Mono.error(new IllegalStateException("refused"))));
+
+        probes.refresh().block();
+
+        assertTrue(probes.isReady());
+        assertTrue(report(probes).contains("\"status\":\"DOWN\""));
+        assertEquals(0.0, meterRegistry.get("probe.dependency.up").tag("dependency", "upstream").gauge().value());
+    }
+
+
+    @Test
+    public void refresh_slowCheckTimesOut(){
+        DependencyProbes probes = probes(check("mongo", true, Mono.never()));
+
+        StepVerifier.create(probes.refresh()).verifyComplete();
+
+        assertFalse(probes.isHealthy());
+        assertTrue(report(probes).contains("TimeoutException"));
+    }
+
+
+    @Test
+    public void refresh_afterShutdownLeavesReadinessAlone(){
+        FlakyCheck mongo = new FlakyCheck("mongo", true);
+        DependencyProbes probes = probes(mongo);
+
+        mongo.up = false;
+        probes.refresh().block();
+        probes.stop();
+        mongo.up = true;
+        probes.refresh().block();
+
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+    }
+
+
+    @Test
+    public void isReady_falseWhileShedding(){
+        properties.setMaxInFlight(-1);
+        DependencyProbes probes = probes();
+
+        assertTrue(probes.isHealthy());
+        assertFalse(probes.isReady());
+    }
+
+
+    @Test
+    public void eventLoopLag_blockedLoopIsDown() throws InterruptedException {
+        NioEventLoopGroup eventLoops = new NioEventLoopGroup(1);
+        try {
+            eventLoops.submit(() -> { }).await();
+            EventLoopLagCheck check = new EventLoopLagCheck(eventLoops, Duration.ofMillis(100));
+            StepVerifier.create(check.check()).expectNextCount(1).verifyComplete();
+
+            CountDownLatch blocked = new CountDownLatch(1);
+            eventLoops.execute(() -> {
+                blocked.countDown();
+                busy(Duration.ofMillis(500));
+            });
+            blocked.await();
+            StepVerifier.create(check.check()).expectError(IllegalStateException.class).verify();
+        } finally {
+            eventLoops.shutdownGracefully(0, 0, TimeUnit.SECONDS).await();
+        }
+    }
+
+
+    private DependencyProbes probes(DependencyCheck... checks) {
+        return new DependencyProbes(properties, List.of(checks), availability, inFlightRequestTracker, eventPublisher,
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    private static String report(DependencyProbes probes) {
+        return new String(probes.getReport(), StandardCharsets.UTF_8);
+    }
+
+    private static DependencyCheck check(String name, boolean critical, Mono<Duration> result) {
+        return new DependencyCheck() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public boolean isCritical() {
+                return critical;
+            }
+
+            @Override
+            public Mono<Duration> check() {
+                return result;
+            }
+        };
+    }
+
+    private static void busy(Duration duration) {
+        // A plain spin: BlockHound treats Thread.onSpinWait as blocking on event-loop threads.
+        long deadline = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < deadline) {
+            // spin
+        }
+    }
+
+
+    static class FlakyCheck implements DependencyCheck {
+
+        final String name;
+        final boolean critical;
+        volatile boolean up = true;
+
+        FlakyCheck(String name, boolean critical) {
+            this.name = name;
+            this.critical = critical;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isCritical() {
+            return critical;
+        }
+
+        @Override
+        public Mono<Duration> check() {
+            return up ? Mono.just(Duration.ofMillis(1)) : Mono.error(new IllegalStateException("ping failed"));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package eventservice.reactive;
+
+import eventservice.reactive.startup.StartupReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"spring.data.mongodb.uri=mongodb://localhost:27017/eventdb", "cache.warm-start=false",
+				"user-store.engine=in-memory"})
+@ActiveProfiles("fast-start")
+class FastStartApplicationTests {
+
+	@Autowired
+	ConfigurableListableBeanFactory beanFactory;
+
+	@Autowired
+	StartupReport startupReport;
+
+	@Autowired
+	WebTestClient webTestClient;
+
+	@Test
+	void contextLoads() {
+	}
+
+	@Test
+	void routerFunctions_stayEager() {
+		String[] routerNames = beanFactory.getBeanNamesForType(RouterFunction.class, false, false);
+		assertTrue(routerNames.length > 0);
+		for (String name : routerNames) {
+			assertFalse(beanFactory.getBeanDefinition(name).isLazyInit(), name);
+			assertTrue(beanFactory.containsSingleton(name), name);
+		}
+		assertTrue(beanFactory.getBeanDefinition("userService").isLazyInit());
+	}
+
+	@Test
+	void startupReport_recordsFirstRequest() {
+		webTestClient.get().uri("/probes/live").exchange().expectStatus().isOk();
+
+		assertTrue(startupReport.getReadyAt() > 0);
+		assertTrue(startupReport.getFirstRequestServedAt() >= startupReport.getReadyAt());
+		long firstRequestServedAt = startupReport.getFirstRequestServedAt();
+		webTestClient.get().uri("/probes/live").exchange().expectStatus().isOk();
+		assertEquals(firstRequestServedAt, startupReport.getFirstRequestServedAt());
+	}
+
+}
@@ -0,0 +1,110 @@
+package eventservice.reactive;
+
+import eventservice.reactive.lifecycle.InFlightRequestTracker;
+import eventservice.reactive.model.UserModel;
+import eventservice.reactive.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+
+/**
+ * Closes the application context while requests are in flight. The context is started
+ * here rather than by the TestContext framework, which caches its contexts and expects
+ * them to stay open.
+ */
+class GracefulShutdownTests {
+
+    private static final int REQUESTS = 50;
+
+    ConfigurableApplicationContext context;
+    ConnectionProvider connectionProvider;
+
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+
+    @Test
+    void shutdownUnderLoad_dropsNoRequests() throws Exception {
+        context = new SpringApplicationBuilder(ReactiveApplication.class, DelayedUserServiceConfiguration.class)
+                .run("--server.port=0",
+                        "--spring.data.mongodb.uri=mongodb://localhost:27017/eventdb",
+                        "--cache.warm-start=false",
+                        "--user-store.engine=in-memory");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        InFlightRequestTracker inFlightRequestTracker = context.getBean(InFlightRequestTracker.class);
+
+        connectionProvider = ConnectionProvider.create("shutdown-test", REQUESTS);
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .baseUrl("http://localhost:" + port)
+                .build();
+
+        CompletableFuture<List<HttpStatus>> statuses = Flux.range(0, REQUESTS)
+                .flatMap(i -> webClient.get().uri("/api/v3/users/user123")
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode())), REQUESTS)
+                .collectList()
+                .toFuture();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlightRequestTracker.getInFlight() < REQUESTS && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(REQUESTS, inFlightRequestTracker.getInFlight());
+
+        context.close();
+
+        List<HttpStatus> completed = statuses.get(10, TimeUnit.SECONDS);
+        assertFalse(context.isActive());
+        assertEquals(REQUESTS, completed.size());
+        assertTrue(completed.stream().allMatch(HttpStatus.OK::equals));
+        assertEquals(0, inFlightRequestTracker.getInFlight());
+    }
+
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class DelayedUserServiceConfiguration {
+
+        @Bean
+        @Primary
+        UserService delayedUserService() {
+            UserModel userModel = new UserModel("63e66190fee6a77bc97185aa", "user123",
+                    "email123@gmail.com", "password123", "user");
+            UserService userService = Mockito.mock(UserService.class);
+            Mockito.when(userService.findUserDetails(any()))
+                    .thenReturn(Mono.just(userModel).delayElement(Duration.ofMillis(500)));
+            return userService;
+        }
+    }
+}
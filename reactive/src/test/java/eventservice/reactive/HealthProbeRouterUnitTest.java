@@ -0,0 +1,68 @@
+package eventservice.reactive;
+
+import eventservice.reactive.health.DependencyProbes;
+import eventservice.reactive.router.HealthProbeRouter;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+
+
+@WebFluxTest(HealthProbeRouter.class)
+public class HealthProbeRouterUnitTest {
+
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @MockBean
+    DependencyProbes dependencyProbes;
+
+
+    @Test
+    public void liveness(){
+        Mockito.when(dependencyProbes.isLive()).thenReturn(true);
+
+        webTestClient.get().uri("/probes/live").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.status").isEqualTo("UP");
+    }
+
+
+    @Test
+    public void readiness(){
+        Mockito.when(dependencyProbes.isReady()).thenReturn(true);
+
+        webTestClient.get().uri("/probes/ready").exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/probes/ready").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.status").isEqualTo("UP");
+    }
+
+
+    @Test
+    public void readiness_notReady(){
+        Mockito.when(dependencyProbes.isReady()).thenReturn(false);
+
+        webTestClient.get().uri("/probes/ready").exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody().jsonPath("$.status").isEqualTo("DOWN");
+    }
+
+
+    @Test
+    public void dependencies(){
+        Mockito.when(dependencyProbes.isHealthy()).thenReturn(false);
+        Mockito.when(dependencyProbes.getReport()).thenReturn(
+                "{\"status\":\"DOWN\",\"dependencies\":[]}".getBytes(StandardCharsets.UTF_8));
+
+        webTestClient.get().uri("/probes/dependencies").exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody().jsonPath("$.status").isEqualTo("DOWN");
+    }
+}
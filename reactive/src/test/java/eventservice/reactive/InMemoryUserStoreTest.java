@@ -0,0 +1,13 @@
+package eventservice.reactive;
+
+import eventservice.reactive.repository.InMemoryUserStore;
+import eventservice.reactive.repository.UserStore;
+
+
+public class InMemoryUserStoreTest extends UserStoreContractTest {
+
+    @Override
+    protected UserStore createStore() {
+        return new InMemoryUserStore();
+    }
+}
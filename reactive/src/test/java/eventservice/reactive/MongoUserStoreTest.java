@@ -0,0 +1,41 @@
+package eventservice.reactive;
+
+import eventservice.reactive.repository.MongoUserStore;
+import eventservice.reactive.repository.UserRepository;
+import eventservice.reactive.repository.UserStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+public class MongoUserStoreTest extends UserStoreContractTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer(DockerImageName.parse("mongo:5.0"));
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    protected UserStore createStore() {
+        userRepository.deleteAll().block();
+        MongoUserStore.ensureIndexes(mongoTemplate).block();
+        return new MongoUserStore(userRepository);
+    }
+}
@@ -0,0 +1,54 @@
+package eventservice.reactive;
+
+import eventservice.reactive.exception.EmailExistsException;
+import eventservice.reactive.exception.UsernameExistsException;
+import eventservice.reactive.model.UserModel;
+import eventservice.reactive.repository.MongoUserStore;
+import eventservice.reactive.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+
+@ExtendWith(SpringExtension.class)
+public class MongoUserStoreUnitTest {
+
+    @Mock
+    UserRepository userRepository;
+
+
+    @Test
+    public void save_duplicateEmailIndex_mapsToEmailExists(){
+        when(userRepository.save(any())).thenReturn(Mono.error(duplicateKey("email", "{ email: \"ronalds@gmail.com\" }")));
+
+        StepVerifier.create(new MongoUserStore(userRepository).save(user()))
+                .expectError(EmailExistsException.class).verify();
+    }
+
+
+    @Test
+    public void save_duplicateUsernameIndex_mapsToUsernameExists(){
+        when(userRepository.save(any())).thenReturn(Mono.error(duplicateKey("username", "{ username: \"email\" }")));
+
+        StepVerifier.create(new MongoUserStore(userRepository).save(user()))
+                .expectError(UsernameExistsException.class).verify();
+    }
+
+
+    private static DuplicateKeyException duplicateKey(String index, String key) {
+        return new DuplicateKeyException("Write operation error on server localhost:27017. Write error: "
+                + "WriteError{code=11000, message='E11000 duplicate key error collection: eventdb.userModel index: "
+                + index + " dup key: " + key + "', details={}}.");
+    }
+
+    private static UserModel user() {
+        return new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user");
+    }
+}
@@ -0,0 +1,127 @@
+package eventservice.reactive;
+
+import eventservice.reactive.cache.InMemoryCacheInvalidationBus;
+import eventservice.reactive.cache.InMemoryL2Cache;
+import eventservice.reactive.cache.MultiLevelCache;
+import eventservice.reactive.cache.MultiLevelCacheProperties;
+import eventservice.reactive.model.UserModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+
+public class MultiLevelCacheUnitTest {
+
+    InMemoryL2Cache l2Cache;
+    InMemoryCacheInvalidationBus invalidationBus;
+    SimpleMeterRegistry meterRegistry;
+    MultiLevelCache<UserModel> nodeA;
+    MultiLevelCache<UserModel> nodeB;
+    AtomicInteger loads;
+
+
+    @BeforeEach
+    public void setUp(){
+        l2Cache = new InMemoryL2Cache(Duration.ofMinutes(1), 1_000);
+        invalidationBus = new InMemoryCacheInvalidationBus();
+        meterRegistry = new SimpleMeterRegistry();
+        nodeA = new MultiLevelCache<>("users", "node-a", new MultiLevelCacheProperties.L1(), l2Cache,
+                invalidationBus, meterRegistry);
+        nodeB = new MultiLevelCache<>("users", "node-b", new MultiLevelCacheProperties.L1(), l2Cache,
+                invalidationBus, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+
+    @Test
+    public void get_loadsOnceThenServesFromL1(){
+        UserModel userModel = new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user");
+
+        StepVerifier.create(nodeA.get("Ronalds", () -> load(userModel))).expectNext(userModel).verifyComplete();
+        StepVerifier.create(nodeA.get("Ronalds", () -> load(userModel))).expectNext(userModel).verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("tier", "l1").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("tier", "l2").tag("result", "miss").counter().count());
+    }
+
+
+    @Test
+    public void get_otherNodeServedFromL2(){
+        UserModel userModel = new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user");
+
+        nodeA.get("Ronalds", () -> load(userModel)).block();
+
+        StepVerifier.create(nodeB.get("Ronalds", () -> load(userModel))).expectNext(userModel).verifyComplete();
+        assertEquals(1, loads.get());
+    }
+
+
+    @Test
+    public void get_emptyLoadIsNotCached(){
+        StepVerifier.create(nodeA.get("Ronalds", Mono::empty)).verifyComplete();
+        StepVerifier.create(l2Cache.get("users", "Ronalds")).verifyComplete();
+    }
+
+
+    @Test
+    public void invalidate_evictsOtherNodesL1(){
+        UserModel userModel = new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user");
+        UserModel editedModel = new UserModel(null, "Ronalds", "edited@gmail.com", "password123", "user");
+
+        nodeA.get("Ronalds", () -> load(userModel)).block();
+        nodeB.get("Ronalds", () -> load(userModel)).block();
+
+        nodeA.invalidate("Ronalds").block();
+
+        StepVerifier.create(nodeB.get("Ronalds", () -> load(editedModel))).expectNext(editedModel).verifyComplete();
+        assertEquals(2, loads.get());
+    }
+
+
+    @Test
+    public void invalidate_duringLoadSkipsWriteBack(){
+        UserModel staleModel = new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user");
+        UserModel editedModel = new UserModel(null, "Ronalds", "edited@gmail.com", "password123", "user");
+        Sinks.One<UserModel> slowLoad = Sinks.one();
+
+        StepVerifier.create(nodeA.get("Ronalds", slowLoad::asMono))
+                .then(() -> nodeA.invalidate("Ronalds").block())
+                .then(() -> slowLoad.tryEmitValue(staleModel))
+                .expectNext(staleModel)
+                .verifyComplete();
+
+        StepVerifier.create(l2Cache.get("users", "Ronalds")).verifyComplete();
+        StepVerifier.create(nodeA.get("Ronalds", () -> load(editedModel))).expectNext(editedModel).verifyComplete();
+        assertEquals(1, loads.get());
+    }
+
+
+    @Test
+    public void warmUp_preloadsL1FromL2(){
+        UserModel userModel = new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user");
+        l2Cache.put("users", "Ronalds", userModel).block();
+
+        nodeA.warmUp().block();
+
+        StepVerifier.create(nodeA.get("Ronalds", () -> load(userModel))).expectNext(userModel).verifyComplete();
+        assertEquals(0, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("tier", "l1").tag("result", "hit").counter().count());
+    }
+
+
+    private Mono<UserModel> load(UserModel userModel) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return userModel;
+        });
+    }
+}
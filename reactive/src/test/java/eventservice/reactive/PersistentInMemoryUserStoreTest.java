@@ -0,0 +1,125 @@
+package eventservice.reactive;
+
+import eventservice.reactive.execution.BlockingExecution;
+import eventservice.reactive.execution.BlockingExecutionProperties;
+import eventservice.reactive.model.UserModel;
+import eventservice.reactive.repository.InMemoryUserStore;
+import eventservice.reactive.repository.UserStore;
+import eventservice.reactive.repository.UserStoreLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+public class PersistentInMemoryUserStoreTest extends UserStoreContractTest {
+
+    private static final long MAPPED_SIZE = 4096;
+    private static final long COMPACTION_THRESHOLD = 1024;
+
+    @TempDir
+    Path directory;
+
+    BlockingExecution blockingExecution = BlockingExecution.create(BlockingExecutionProperties.Mode.BOUNDED_ELASTIC);
+    InMemoryUserStore persistentStore;
+
+    @Override
+    protected UserStore createStore() {
+        persistentStore = open();
+        return persistentStore;
+    }
+
+
+    @AfterEach
+    public void closeStore() throws IOException {
+        persistentStore.close();
+        blockingExecution.close();
+    }
+
+
+    @Test
+    public void save_runsOffTheCallingThread(){
+        StepVerifier.create(userStore.save(new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user"))
+                        .map(saved -> Thread.currentThread().getName()))
+                .expectNextMatches(thread -> thread.startsWith("boundedElastic"))
+                .verifyComplete();
+    }
+
+
+    @Test
+    public void reopen_restoresUsers(){
+        UserModel kept = userStore.save(new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user")).block();
+        UserModel deleted = userStore.save(new UserModel(null, "Deleted1", "deleted1@gmail.com", "password123", "user")).block();
+        userStore.deleteById(deleted.getId()).block();
+
+        reopen();
+
+        StepVerifier.create(userStore.findByUsername("Ronalds")).expectNext(kept).verifyComplete();
+        StepVerifier.create(userStore.findByUsername("Deleted1")).verifyComplete();
+    }
+
+
+    @Test
+    public void compaction_keepsLatestState() throws IOException {
+        UserModel saved = userStore.save(new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user")).block();
+        UserModel latest = saved;
+        for (int i = 0; i < 100; i++) {
+            latest = userStore.save(new UserModel(saved.getId(), "Ronalds", "ronalds" + i + "@gmail.com",
+                    "password123", "user")).block();
+        }
+
+        assertTrue(Files.exists(directory.resolve("users.snapshot")));
+        reopen();
+
+        StepVerifier.create(userStore.findByUsername("Ronalds")).expectNext(latest).verifyComplete();
+        StepVerifier.create(userStore.findByEmail("ronalds@gmail.com")).verifyComplete();
+    }
+
+
+    @Test
+    public void reopen_stopsAtTornRecord() throws IOException {
+        UserModel kept = userStore.save(new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user")).block();
+        userStore.save(new UserModel(null, "Torn1234", "torn1234@gmail.com", "password123", "user")).block();
+        persistentStore.close();
+
+        try (FileChannel log = FileChannel.open(directory.resolve("users.log"), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer firstLength = ByteBuffer.allocate(Integer.BYTES);
+            log.read(firstLength, 0);
+            long secondPayload = 2 * Integer.BYTES + firstLength.flip().getInt() + 2 * Integer.BYTES;
+            log.write(ByteBuffer.wrap(new byte[]{0x7f}), secondPayload + 1);
+        }
+        persistentStore = open();
+        userStore = persistentStore;
+
+        StepVerifier.create(userStore.findByUsername("Ronalds")).expectNext(kept).verifyComplete();
+        StepVerifier.create(userStore.findByUsername("Torn1234")).verifyComplete();
+        UserModel next = userStore.save(new UserModel(null, "Another1", "another1@gmail.com", "password123", "user")).block();
+        reopen();
+        StepVerifier.create(userStore.findByUsername("Another1")).expectNext(next).verifyComplete();
+    }
+
+
+    private void reopen() {
+        try {
+            persistentStore.close();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        persistentStore = open();
+        userStore = persistentStore;
+    }
+
+    private InMemoryUserStore open() {
+        return new InMemoryUserStore(new UserStoreLog(directory, MAPPED_SIZE, COMPACTION_THRESHOLD), blockingExecution);
+    }
+}
@@ -0,0 +1,38 @@
+package eventservice.reactive;
+
+import eventservice.reactive.logging.RequestTimings;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+public class RequestTimingsUnitTest {
+
+
+    @Test
+    public void mongo_addsElapsedTime(){
+        RequestTimings timings = new RequestTimings();
+
+        Mono<String> result = Mono.just("user123").delayElement(Duration.ofMillis(20))
+                .transform(RequestTimings.mongo())
+                .contextWrite(Context.of(RequestTimings.class, timings));
+
+        StepVerifier.create(result).expectNext("user123").verifyComplete();
+        assertTrue(timings.getMongoNanos() >= Duration.ofMillis(20).toNanos());
+        assertEquals(0, timings.getUpstreamNanos());
+    }
+
+
+    @Test
+    public void upstream_withoutTimingsInContext(){
+        Mono<String> result = Mono.just("Riga").transform(RequestTimings.upstream());
+
+        StepVerifier.create(result).expectNext("Riga").verifyComplete();
+    }
+}
@@ -43,6 +43,21 @@ public class UserRouterUnitTest {
     }
 
 
+    @Test
+    public void findUserDetails_cbor() {
+        UserModel userModel = new UserModel("63e66190fee6a77bc97185aa", "user123",
+                "email123@gmail.com", "password123", "user");
+
+        Mockito.when(userService.findUserDetails(any())).thenReturn(Mono.just(userModel));
+
+        webTestClient.get().uri("/api/v3/users/user123")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR);
+    }
+
+
     @Test
     public void findUserDetails_nonexistentUser() {
         Mockito.when(userService.findUserDetails(any())).thenReturn(Mono.error(UserNotFoundException::new));
@@ -148,6 +163,22 @@ public class UserRouterUnitTest {
     }
 
 
+    @Test
+    public void editUser_usernameAlreadyExists(){
+        UserModel userModel = new UserModel(null, "user456",
+                "email123@gmail.com", "password123", "user");
+
+        Mockito.when(userService.editUser(any(), any())).thenReturn(Mono.error(new UsernameExistsException()));
+
+        webTestClient.put().uri("/api/v3/users/user123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(userModel), UserModel.class)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorModel.class);
+    }
+
+
     @Test
     public void editUser_nonexistentUsername(){
         UserModel userModel = new UserModel(null, "u",
@@ -1,16 +1,24 @@
 package eventservice.reactive;
 
+import eventservice.reactive.audit.AuditAction;
+import eventservice.reactive.audit.AuditTrail;
+import eventservice.reactive.cache.InMemoryCacheInvalidationBus;
+import eventservice.reactive.cache.MultiLevelCache;
+import eventservice.reactive.cache.MultiLevelCacheProperties;
 import eventservice.reactive.exception.EmailExistsException;
 import eventservice.reactive.exception.UserNotFoundException;
 import eventservice.reactive.exception.UsernameExistsException;
 import eventservice.reactive.model.UserModel;
-import eventservice.reactive.repository.UserRepository;
+import eventservice.reactive.repository.UserStore;
 import eventservice.reactive.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -29,21 +37,34 @@ import static org.mockito.Mockito.*;
 public class UserServiceUnitTest {
 
     @Mock
-    UserRepository userRepository;
+    UserStore userStore;
 
     @Mock
     Validator validator;
 
+    @Spy
+    MultiLevelCache<UserModel> userCache = new MultiLevelCache<>("users", "test-node",
+            new MultiLevelCacheProperties.L1(), null, new InMemoryCacheInvalidationBus(), new SimpleMeterRegistry());
+
+    @Mock
+    AuditTrail auditTrail;
+
     @InjectMocks
     UserService userService;
 
 
+    @BeforeEach
+    public void setUp(){
+        Mockito.when(auditTrail.record(any(), any())).thenReturn(Mono.empty());
+    }
+
+
     @Test
     public void findUserDetails(){
         UserModel userModel = new UserModel(null, "Ronalds",
                 "ronalds@gmail.com", "password123", "user");
 
-        Mockito.when(userRepository.findByUsername("Ronalds")).thenReturn(Mono.just(userModel));
+        Mockito.when(userStore.findByUsername("Ronalds")).thenReturn(Mono.just(userModel));
 
         Mono<UserModel> result = userService.findUserDetails("Ronalds");
 
@@ -51,9 +72,22 @@ public class UserServiceUnitTest {
     }
 
 
+    @Test
+    public void findUserDetails_cached(){
+        UserModel userModel = new UserModel(null, "Ronalds",
+                "ronalds@gmail.com", "password123", "user");
+
+        Mockito.when(userStore.findByUsername("Ronalds")).thenReturn(Mono.just(userModel));
+
+        StepVerifier.create(userService.findUserDetails("Ronalds")).expectNext(userModel).verifyComplete();
+        StepVerifier.create(userService.findUserDetails("Ronalds")).expectNext(userModel).verifyComplete();
+        Mockito.verify(userStore, times(1)).findByUsername("Ronalds");
+    }
+
+
     @Test
     public void findUserDetails_nonexistentUser(){
-        Mockito.when(userRepository.findByUsername("Ronalds")).thenReturn(Mono.empty());
+        Mockito.when(userStore.findByUsername("Ronalds")).thenReturn(Mono.empty());
 
         Mono<UserModel> result = userService.findUserDetails("Ronalds");
 
@@ -67,12 +101,13 @@ public class UserServiceUnitTest {
                 "ronalds@gmail.com", "password123", "user");
 
         Mockito.when(validator.validate(userModel)).thenReturn(Collections.emptySet());
-        Mockito.when(userRepository.findByUsername(any())).thenReturn(Mono.empty());
-        Mockito.when(userRepository.findByEmail(any())).thenReturn(Mono.empty());
-        Mockito.when(userRepository.save(any())).thenReturn(Mono.just(userModel));
+        Mockito.when(userStore.findByUsername(any())).thenReturn(Mono.empty());
+        Mockito.when(userStore.findByEmail(any())).thenReturn(Mono.empty());
+        Mockito.when(userStore.save(any())).thenReturn(Mono.just(userModel));
 
         Mono<UserModel> result = userService.saveUser(userModel);
         StepVerifier.create(result).expectNext(userModel).verifyComplete();
+        Mockito.verify(auditTrail, times(1)).record(AuditAction.CREATE, "Ronalds");
     }
 
 
@@ -96,7 +131,7 @@ public class UserServiceUnitTest {
                 "ronalds@gmail.com", "password123", "user");
 
         Mockito.when(validator.validate(userModel)).thenReturn(Collections.emptySet());
-        Mockito.when(userRepository.findByUsername(any())).thenReturn(Mono.just(userModel));
+        Mockito.when(userStore.findByUsername(any())).thenReturn(Mono.just(userModel));
 
         Mono<UserModel> result = userService.saveUser(userModel);
         StepVerifier.create(result).expectError(UsernameExistsException.class).verify();
@@ -110,8 +145,8 @@ public class UserServiceUnitTest {
                 "ronalds@gmail.com", "password123", "user");
 
         Mockito.when(validator.validate(userModel)).thenReturn(Collections.emptySet());
-        Mockito.when(userRepository.findByUsername(any())).thenReturn(Mono.empty());
-        Mockito.when(userRepository.findByEmail(any())).thenReturn(Mono.just(userModel));
+        Mockito.when(userStore.findByUsername(any())).thenReturn(Mono.empty());
+        Mockito.when(userStore.findByEmail(any())).thenReturn(Mono.just(userModel));
 
         Mono<UserModel> result = userService.saveUser(userModel);
         StepVerifier.create(result).expectError(EmailExistsException.class).verify();
@@ -124,12 +159,13 @@ public class UserServiceUnitTest {
                 "ronalds@gmail.com", "password123", "user");
 
         Mockito.when(validator.validate(userModel)).thenReturn(Collections.emptySet());
-        Mockito.when(userRepository.findByUsername(any())).thenReturn(Mono.just(userModel));
-        Mockito.when(userRepository.findByEmail(any())).thenReturn(Mono.empty());
-        Mockito.when(userRepository.save(any())).thenReturn(Mono.just(userModel));
+        Mockito.when(userStore.findByUsername(any())).thenReturn(Mono.just(userModel));
+        Mockito.when(userStore.findByEmail(any())).thenReturn(Mono.empty());
+        Mockito.when(userStore.save(any())).thenReturn(Mono.just(userModel));
 
         Mono<UserModel> result = userService.editUser(userModel, "Ronalds");
         StepVerifier.create(result).expectNext(userModel).verifyComplete();
+        Mockito.verify(auditTrail, times(1)).record(AuditAction.EDIT, "Ronalds");
     }
 
 
@@ -153,7 +189,7 @@ public class UserServiceUnitTest {
                 "ronalds@gmail.com", "password123", "user");
 
         Mockito.when(validator.validate(userModel)).thenReturn(Collections.emptySet());
-        Mockito.when(userRepository.findByUsername(any())).thenReturn(Mono.empty());
+        Mockito.when(userStore.findByUsername(any())).thenReturn(Mono.empty());
 
         Mono<UserModel> result = userService.editUser(userModel, "Ronalds");
         StepVerifier.create(result).expectError(UserNotFoundException.class).verify();
@@ -165,12 +201,14 @@ public class UserServiceUnitTest {
         UserModel userModel = new UserModel("63e65d4ef255b4533f4ad6ad", "Ronalds",
                 "ronalds@gmail.com", "password123", "user");
 
-        Mockito.when(userRepository.findByUsername(any())).thenReturn(Mono.just(userModel));
-        Mockito.when(userRepository.deleteById(anyString())).thenReturn(Mono.empty());
+        Mockito.when(userStore.findByUsername(any())).thenReturn(Mono.just(userModel));
+        Mockito.when(userStore.deleteById(anyString())).thenReturn(Mono.empty());
 
         Mono<Void> result = userService.deleteUser("Ronalds");
         StepVerifier.create(result).expectComplete().verify();
-        Mockito.verify(userRepository, times(1)).deleteById(userModel.getId());
+        Mockito.verify(userStore, times(1)).deleteById(userModel.getId());
+        Mockito.verify(userCache, times(1)).invalidate("Ronalds");
+        Mockito.verify(auditTrail, times(1)).record(AuditAction.DELETE, "Ronalds");
 
     }
 
@@ -180,7 +218,7 @@ public class UserServiceUnitTest {
         UserModel userModel = new UserModel("63e65d4ef255b4533f4ad6ad", "Ronalds",
                 "ronalds@gmail.com", "password123", "user");
 
-        Mockito.when(userRepository.findByUsername(any())).thenReturn(Mono.empty());
+        Mockito.when(userStore.findByUsername(any())).thenReturn(Mono.empty());
 
         Mono<Void> result = userService.deleteUser("Ronalds");
         StepVerifier.create(result).expectError(UserNotFoundException.class).verify();
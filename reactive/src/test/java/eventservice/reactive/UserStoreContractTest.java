@@ -0,0 +1,116 @@
+package eventservice.reactive;
+
+import eventservice.reactive.exception.EmailExistsException;
+import eventservice.reactive.exception.UsernameExistsException;
+import eventservice.reactive.model.UserModel;
+import eventservice.reactive.repository.UserStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+
+/**
+ * Behaviour every {@link UserStore} engine has to provide; each engine's test extends this.
+ */
+public abstract class UserStoreContractTest {
+
+    UserStore userStore;
+
+    protected abstract UserStore createStore();
+
+
+    @BeforeEach
+    public void setUpStore(){
+        userStore = createStore();
+    }
+
+
+    @Test
+    public void save_assignsIdAndIndexes(){
+        UserModel saved = userStore.save(new UserModel(null, "Ronalds",
+                "ronalds@gmail.com", "password123", "user")).block();
+
+        assertNotNull(saved.getId());
+        StepVerifier.create(userStore.findByUsername("Ronalds")).expectNext(saved).verifyComplete();
+        StepVerifier.create(userStore.findByEmail("ronalds@gmail.com")).expectNext(saved).verifyComplete();
+    }
+
+
+    @Test
+    public void find_nonexistentUser(){
+        StepVerifier.create(userStore.findByUsername("Ronalds")).verifyComplete();
+        StepVerifier.create(userStore.findByEmail("ronalds@gmail.com")).verifyComplete();
+    }
+
+
+    @Test
+    public void save_existingUsername(){
+        userStore.save(new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user")).block();
+
+        StepVerifier.create(userStore.save(new UserModel(null, "Ronalds", "other123@gmail.com", "password123", "user")))
+                .expectError(UsernameExistsException.class).verify();
+    }
+
+
+    @Test
+    public void save_existingEmail(){
+        userStore.save(new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user")).block();
+
+        StepVerifier.create(userStore.save(new UserModel(null, "Other123", "ronalds@gmail.com", "password123", "user")))
+                .expectError(EmailExistsException.class).verify();
+    }
+
+
+    @Test
+    public void save_updateReindexes(){
+        UserModel saved = userStore.save(new UserModel(null, "Ronalds",
+                "ronalds@gmail.com", "password123", "user")).block();
+
+        UserModel updated = userStore.save(new UserModel(saved.getId(), "Renamed1",
+                "renamed1@gmail.com", "password123", "user")).block();
+
+        assertEquals(saved.getId(), updated.getId());
+        StepVerifier.create(userStore.findByUsername("Ronalds")).verifyComplete();
+        StepVerifier.create(userStore.findByEmail("ronalds@gmail.com")).verifyComplete();
+        StepVerifier.create(userStore.findByUsername("Renamed1")).expectNext(updated).verifyComplete();
+    }
+
+
+    @Test
+    public void deleteById_removesFromIndexes(){
+        UserModel saved = userStore.save(new UserModel(null, "Ronalds",
+                "ronalds@gmail.com", "password123", "user")).block();
+
+        StepVerifier.create(userStore.deleteById(saved.getId())).verifyComplete();
+
+        StepVerifier.create(userStore.findByUsername("Ronalds")).verifyComplete();
+        StepVerifier.create(userStore.findByEmail("ronalds@gmail.com")).verifyComplete();
+        StepVerifier.create(userStore.save(new UserModel(null, "Ronalds", "ronalds@gmail.com", "password123", "user")))
+                .expectNextCount(1).verifyComplete();
+    }
+
+
+    @Test
+    public void save_concurrentSameUsername_onlyOneSucceeds(){
+        int attempts = 16;
+
+        List<Boolean> results = Flux.range(0, attempts)
+                .flatMap(i -> userStore.save(new UserModel(null, "Ronalds", "ronalds" + i + "@gmail.com",
+                                "password123", "user"))
+                        .subscribeOn(Schedulers.parallel())
+                        .map(saved -> true)
+                        .onErrorReturn(UsernameExistsException.class, false))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+    }
+}